@@ -7,6 +7,15 @@ public final class Const {
         public static final String DELIMITER = ":";
     }
 
+    /**
+     * Типы CloudEvent команд (trigger функций Funqy).
+     */
+    public static final class CloudEventTypes {
+        public static final String MODEL_COMMAND = "model.events.command";
+        public static final String MODEL_VERSION_COMMAND = "model.version.events.command";
+        public static final String ARTIFACT_COMMAND = "artifact.events.command";
+    }
+
     public static final class ModelRegistryMapper {
         public static final String DISPLAY_NAME_CUSTOM_PROPERTIES_KEY = "display_name";
         public static final String LABELS_CUSTOM_PROPERTIES_KEY = "labels";
@@ -22,7 +22,9 @@ import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 @Path("/artifacts")
 @RegisterRestClient(configKey = "model-registry")
 @RegisterProvider(RestClientExceptionMapper.class)
+@RegisterProvider(ResponseSizeFilter.class)
 @RegisterClientHeaders(HttpClientHeadersFactory.class)
+@Measured
 public interface ArtifactClient {
 
 
@@ -42,6 +44,7 @@ public interface ArtifactClient {
      * @return Список артефактов с метаданными пагинации.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ArtifactList> getArtifacts(
             @QueryParam("filterQuery") String filterQuery,
@@ -64,6 +67,7 @@ public interface ArtifactClient {
      * @return Ответ с созданным артефактом (HTTP 201).
      */
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @ClientHeaderParam(name = "Content-Type", value = "application/json")
@@ -79,6 +83,7 @@ public interface ArtifactClient {
      * @return Артефакт.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.READ)
     @Path("/{id}")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<Artifact> getArtifact(@PathParam("id") String id);
@@ -95,6 +100,7 @@ public interface ArtifactClient {
      * @return Обновленный артефакт.
      */
     @PATCH
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/{id}")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
@@ -0,0 +1,23 @@
+package io.cx.model_registry.proxy.client;
+
+/**
+ * Классы трафика к Model Registry, ограниченные отдельными семафорными bulkhead.
+ * <p>
+ * Пул соединений при этом общий для всех классов одного интерфейса клиента: bulkhead ограничивает
+ * только число одновременных вызовов класса, а не выделяет ему собственные соединения.
+ * </p>
+ */
+public enum BulkheadType {
+    /** Чтение одной сущности по ID, включая проверки актуальности кэша списком с {@code pageSize=1}. */
+    READ,
+    /** Поиск по имени/externalId (SearchClient). */
+    SEARCH,
+    /** Создание и изменение сущностей. */
+    WRITE,
+    /** Списки и сканирование постранично. */
+    BULK;
+
+    public String configName() {
+        return name().toLowerCase();
+    }
+}
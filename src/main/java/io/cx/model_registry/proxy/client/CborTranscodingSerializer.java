@@ -0,0 +1,63 @@
+package io.cx.model_registry.proxy.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Kafka-сериализатор значений, перекодирующий JSON-события в CBOR.
+ * <p>
+ * Перекодирование потоковое: токены JSON копируются в CBOR-генератор без построения дерева.
+ * Заголовок {@code content-type} (атрибут {@code datacontenttype} в binary mode CloudEvents)
+ * заменяется на {@code application/cbor}, чтобы потребители выбрали нужный декодер.
+ * Подключается через {@code value.serializer} исходящего канала.
+ * </p>
+ */
+@RegisterForReflection
+public class CborTranscodingSerializer implements Serializer<byte[]> {
+
+    public static final String CONTENT_TYPE = "content-type";
+    public static final String CBOR_CONTENT_TYPE = "application/cbor";
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final CBORFactory CBOR = new CBORFactory();
+
+    @Override
+    public byte[] serialize(String topic, byte[] data) {
+        return data == null ? null : transcode(data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        byte[] encoded = transcode(data);
+        headers.remove(CONTENT_TYPE);
+        headers.add(CONTENT_TYPE, CBOR_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+        return encoded;
+    }
+
+    static byte[] transcode(byte[] json) {
+        // CBOR обычно компактнее исходного JSON, поэтому его размер — достаточная начальная ёмкость.
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = JSON.createParser(json);
+             JsonGenerator generator = CBOR.createGenerator(out)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentEvent(parser);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Unable to transcode event to CBOR", e);
+        }
+        return out.toByteArray();
+    }
+}
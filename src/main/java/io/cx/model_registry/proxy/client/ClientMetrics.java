@@ -0,0 +1,68 @@
+package io.cx.model_registry.proxy.client;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Метрики вызовов Model Registry по логическим операциям REST-клиентов.
+ * <ul>
+ *     <li>{@code registry.client.requests} — таймер с гистограммой, теги {@code operation}, {@code status}
+ *     (класс статуса {@code 2xx}..{@code 5xx}, {@code error} или {@code cancelled});</li>
+ *     <li>{@code registry.client.in-flight} — число выполняющихся запросов, тег {@code operation};</li>
+ *     <li>{@code registry.client.response.size} — распределение размера ответа в байтах, тег {@code operation}.</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class ClientMetrics {
+
+    public static final String REQUESTS = "registry.client.requests";
+    public static final String IN_FLIGHT = "registry.client.in-flight";
+    public static final String RESPONSE_SIZE = "registry.client.response.size";
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> responseSizes = new ConcurrentHashMap<>();
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public AtomicInteger inFlight(String operation) {
+        return inFlight.computeIfAbsent(operation, op -> {
+            AtomicInteger counter = new AtomicInteger();
+            Gauge.builder(IN_FLIGHT, counter, AtomicInteger::get)
+                    .tag("operation", op)
+                    .register(meterRegistry);
+            return counter;
+        });
+    }
+
+    public void recordRequest(String operation, String status, long durationNanos) {
+        timers.computeIfAbsent(new TimerKey(operation, status), key -> Timer.builder(REQUESTS)
+                        .tag("operation", key.operation())
+                        .tag("status", key.status())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordResponseSize(String operation, long bytes) {
+        responseSizes.computeIfAbsent(operation, op -> DistributionSummary.builder(RESPONSE_SIZE)
+                        .tag("operation", op)
+                        .baseUnit("bytes")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(bytes);
+    }
+
+    private record TimerKey(String operation, String status) {
+    }
+}
@@ -0,0 +1,67 @@
+package io.cx.model_registry.proxy.client;
+
+import io.cx.model_registry.proxy.exceptions.RestClientException;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.ws.rs.WebApplicationException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Замеряет длительность вызовов REST-клиентов, помеченных {@link Measured}.
+ * <p>
+ * Самый внутренний из интерцепторов клиентов: время ожидания в bulkhead не входит в замер,
+ * а объединённые запросы учитываются один раз.
+ * </p>
+ */
+@Measured
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION + 30)
+public class ClientMetricsInterceptor {
+
+    @Inject
+    ClientMetrics metrics;
+
+    @AroundInvoke
+    Object measure(InvocationContext context) throws Exception {
+        if (!Uni.class.isAssignableFrom(context.getMethod().getReturnType())) {
+            return context.proceed();
+        }
+        String operation = ClientOperations.name(context.getMethod());
+        @SuppressWarnings("unchecked")
+        Uni<Object> call = (Uni<Object>) context.proceed();
+
+        return Uni.createFrom().deferred(() -> {
+            AtomicInteger inFlight = metrics.inFlight(operation);
+            inFlight.incrementAndGet();
+            long start = System.nanoTime();
+            return call
+                    .onItemOrFailure().invoke((item, failure) -> {
+                        inFlight.decrementAndGet();
+                        metrics.recordRequest(operation, statusClass(failure), System.nanoTime() - start);
+                    })
+                    .onCancellation().invoke(() -> {
+                        inFlight.decrementAndGet();
+                        metrics.recordRequest(operation, "cancelled", System.nanoTime() - start);
+                    });
+        });
+    }
+
+    static String statusClass(Throwable failure) {
+        if (failure == null) {
+            return "2xx";
+        }
+        int status = 0;
+        if (failure instanceof RestClientException restClientException) {
+            status = restClientException.status();
+        } else if (failure instanceof WebApplicationException webApplicationException
+                && webApplicationException.getResponse() != null) {
+            status = webApplicationException.getResponse().getStatus();
+        }
+        return status >= 100 && status < 600 ? (status / 100) + "xx" : "error";
+    }
+}
@@ -0,0 +1,36 @@
+package io.cx.model_registry.proxy.client;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Имена логических операций REST-клиентов вида {@code ModelClient.getRegisteredModels},
+ * используемые в тегах метрик.
+ */
+public final class ClientOperations {
+
+    public static final String UNKNOWN = "unknown";
+
+    private static final Map<Method, String> NAMES = new ConcurrentHashMap<>();
+
+    private ClientOperations() {
+    }
+
+    public static String name(Method method) {
+        if (method == null) {
+            return UNKNOWN;
+        }
+        return NAMES.computeIfAbsent(method, ClientOperations::resolve);
+    }
+
+    private static String resolve(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        Class<?>[] interfaces = declaringClass.getInterfaces();
+        // Для CDI-обёртки REST-клиента используем имя интерфейса, а не сгенерированного класса.
+        String owner = declaringClass.isInterface() || interfaces.length == 0
+                ? declaringClass.getSimpleName()
+                : interfaces[0].getSimpleName();
+        return owner + "." + method.getName();
+    }
+}
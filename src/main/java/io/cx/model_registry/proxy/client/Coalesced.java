@@ -0,0 +1,20 @@
+package io.cx.model_registry.proxy.client;
+
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Помечает идемпотентные GET-методы REST-клиентов, одинаковые одновременные вызовы
+ * которых объединяются в один запрос к Model Registry.
+ *
+ * @see CoalescingInterceptor
+ */
+@InterceptorBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+}
@@ -0,0 +1,68 @@
+package io.cx.model_registry.proxy.client;
+
+import io.cx.model_registry.proxy.utils.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Объединяет одинаковые (метод + аргументы) одновременные вызовы методов, помеченных {@link Coalesced}.
+ * <p>
+ * Количество присоединившихся вызовов публикуется счётчиком {@code registry.client.coalesced}
+ * с тегом {@code operation}, например {@code ModelClient.getRegisteredModel}.
+ * </p>
+ */
+@Coalesced
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION + 10)
+public class CoalescingInterceptor {
+
+    public static final String COALESCED_METRIC = "registry.client.coalesced";
+
+    private final SingleFlight<FlightKey> singleFlight = new SingleFlight<>();
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "proxy.coalescing.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @AroundInvoke
+    Object coalesce(InvocationContext context) throws Exception {
+        Method method = context.getMethod();
+        if (!enabled || !Uni.class.isAssignableFrom(method.getReturnType())) {
+            return context.proceed();
+        }
+
+        String operation = ClientOperations.name(method);
+        FlightKey key = new FlightKey(operation, Arrays.asList(context.getParameters().clone()));
+        return singleFlight.execute(
+                key,
+                () -> proceed(context),
+                () -> meterRegistry.counter(COALESCED_METRIC, "operation", operation).increment()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Uni<Object> proceed(InvocationContext context) {
+        try {
+            return (Uni<Object>) context.proceed();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record FlightKey(String operation, List<Object> arguments) {
+    }
+}
@@ -26,7 +26,9 @@ import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 @Path("/experiments")
 @RegisterRestClient(configKey = "model-registry")
 @RegisterProvider(RestClientExceptionMapper.class)
+@RegisterProvider(ResponseSizeFilter.class)
 @RegisterClientHeaders(HttpClientHeadersFactory.class)
+@Measured
 public interface ExperimentClient {
 
     /**
@@ -44,6 +46,7 @@ public interface ExperimentClient {
      * @return Список экспериментов с метаданными пагинации.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ExperimentList> getExperiments(
             @QueryParam("filterQuery") String filterQuery,
@@ -64,6 +67,7 @@ public interface ExperimentClient {
      * @return Ответ с созданным экспериментом (HTTP 201).
      */
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @ClientHeaderParam(name = "Content-Type", value = "application/json")
@@ -79,6 +83,7 @@ public interface ExperimentClient {
      * @return Эксперимент.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.READ)
     @Path("/{experimentId}")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<Experiment> getExperiment(@PathParam("experimentId") String experimentId);
@@ -95,6 +100,7 @@ public interface ExperimentClient {
      * @return Обновленный эксперимент.
      */
     @PATCH
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/{experimentId}")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
@@ -104,6 +110,7 @@ public interface ExperimentClient {
     );
 
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Path("/{experimentId}/experiment_runs")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ExperimentRunList> getExperimentExperimentRuns(
@@ -116,6 +123,7 @@ public interface ExperimentClient {
     );
 
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/{experimentId}/experiment_runs")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
@@ -26,10 +26,13 @@ import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 @Path("/experiment_runs")
 @RegisterRestClient(configKey = "model-registry")
 @RegisterProvider(RestClientExceptionMapper.class)
+@RegisterProvider(ResponseSizeFilter.class)
 @RegisterClientHeaders(HttpClientHeadersFactory.class)
+@Measured
 public interface ExperimentRunClient {
 
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ExperimentRunList> getExperimentRuns(
             @QueryParam("filterQuery") String filterQuery,
@@ -40,12 +43,14 @@ public interface ExperimentRunClient {
     );
 
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @ClientHeaderParam(name = "Content-Type", value = "application/json")
     Uni<ExperimentRun> createExperimentRun(ExperimentRunCreate experimentRun);
 
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Path("/metric_history")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<MetricList> getExperimentRunsMetricHistory(
@@ -59,11 +64,13 @@ public interface ExperimentRunClient {
     );
 
     @GET
+    @UpstreamBulkhead(BulkheadType.READ)
     @Path("/{experimentrunId}")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ExperimentRun> getExperimentRun(@PathParam("experimentrunId") String experimentRunId);
 
     @PATCH
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/{experimentrunId}")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
@@ -73,6 +80,7 @@ public interface ExperimentRunClient {
     );
 
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Path("/{experimentrunId}/artifacts")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ArtifactList> getExperimentRunArtifacts(
@@ -88,6 +96,7 @@ public interface ExperimentRunClient {
     );
 
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/{experimentrunId}/artifacts")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
@@ -98,6 +107,7 @@ public interface ExperimentRunClient {
     );
 
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Path("/{experimentrunId}/metric_history")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<MetricList> getExperimentRunMetricHistory(
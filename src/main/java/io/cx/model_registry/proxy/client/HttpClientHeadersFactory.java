@@ -1,19 +1,91 @@
 package io.cx.model_registry.proxy.client;
 
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.ext.ClientHeadersFactory;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.MultivaluedMap;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Заголовки запросов к Model Registry.
+ * <p>
+ * Значение {@code Authorization} вычисляется один раз и переиспользуется. Источники по приоритету:
+ * файл токена {@code model.registry.token-file} (перечитывается при изменении, что покрывает ротацию
+ * projected service account token в Kubernetes), {@code model.registry.token}, Basic-авторизация
+ * по {@code model.registry.username}/{@code model.registry.password}.
+ * Изменение файла проверяется не чаще одного раза в {@code model.registry.token-refresh-interval}
+ * и не позже истечения полученного через {@link TokenExchange} токена.
+ * </p>
+ * <p>
+ * Запрос никогда не ждёт обновления: {@link #update} возвращает текущее значение, а проверка
+ * файла и обмен токена выполняются в фоне на worker pool, не более одной одновременно.
+ * После неудачи следующая попытка откладывается с экспоненциальной задержкой от
+ * {@value #MIN_RETRY_SECONDS} с до {@code token-refresh-interval}.
+ * </p>
+ */
 @Slf4j
 @ApplicationScoped
 public class HttpClientHeadersFactory implements ClientHeadersFactory {
 
+    private static final Duration EXPIRY_SKEW = Duration.ofSeconds(30);
+    static final long MIN_RETRY_SECONDS = 1;
+
+    @ConfigProperty(name = "model.registry.token")
+    Optional<String> token;
+
+    @ConfigProperty(name = "model.registry.username")
+    Optional<String> username;
+
+    @ConfigProperty(name = "model.registry.password")
+    Optional<String> password;
+
+    @ConfigProperty(name = "model.registry.token-file")
+    Optional<String> tokenFile;
+
+    @ConfigProperty(name = "model.registry.token-refresh-interval", defaultValue = "PT30S")
+    Duration refreshInterval;
+
+    @Inject
+    Instance<TokenExchange> tokenExchange;
+
+    Clock clock = Clock.systemUTC();
+    Executor refreshExecutor = Infrastructure.getDefaultWorkerPool();
+    TokenExchange exchanger;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile String authorization;
+    private volatile Instant nextCheckAt = Instant.MIN;
+    private volatile Instant expiresAt;
+    private FileStamp fileStamp;
+    private FileStamp readStamp;
+    private int failures;
+
+    @PostConstruct
+    void init() {
+        if (exchanger == null && tokenExchange != null && tokenExchange.isResolvable()) {
+            exchanger = tokenExchange.get();
+        }
+        refresh(true);
+    }
+
     @Override
     public MultivaluedMap<String, String> update(
             MultivaluedMap<String, String> incomingHeaders,
@@ -21,33 +93,103 @@ public class HttpClientHeadersFactory implements ClientHeadersFactory {
     ) {
         MultivaluedMap<String, String> result = new MultivaluedHashMap<>();
 
-        log.debug("Creating headers for Model Registry request");
+        String value = authorization();
+        if (value != null) {
+            result.add("Authorization", value);
+        }
+        result.add("Accept", "application/json");
 
-        String token = ConfigProvider.getConfig()
-                .getOptionalValue("model.registry.token", String.class)
-                .orElse(null);
+        return result;
+    }
+
+    String authorization() {
+        if (!clock.instant().isBefore(nextCheckAt) && refreshing.compareAndSet(false, true)) {
+            try {
+                refreshExecutor.execute(() -> {
+                    try {
+                        refresh(false);
+                    } finally {
+                        refreshing.set(false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                refreshing.set(false);
+                log.warn("Unable to schedule Model Registry credentials refresh: {}", e.getMessage());
+            }
+        }
+        return authorization;
+    }
 
-        String username = ConfigProvider.getConfig()
-                .getOptionalValue("model.registry.username", String.class)
-                .orElse(null);
+    private void refresh(boolean initial) {
+        Instant now = clock.instant();
+        try {
+            String subjectToken = readSubjectToken(initial, now);
+            if (subjectToken != null) {
+                authorization = bearer(subjectToken);
+                // Файл считается прочитанным только после успешного обмена, иначе повтор его пропустит.
+                fileStamp = readStamp;
+            } else if (initial) {
+                authorization = staticAuthorization();
+            }
+            failures = 0;
+            Instant next = now.plus(refreshInterval);
+            nextCheckAt = expiresAt != null && expiresAt.isBefore(next) ? expiresAt : next;
+        } catch (Exception e) {
+            failures++;
+            nextCheckAt = now.plus(retryDelay(failures));
+            log.warn("Failed to refresh Model Registry credentials (attempt {}), keeping previous value: {}",
+                    failures, e.getMessage());
+            if (initial) {
+                authorization = staticAuthorization();
+            }
+        }
+    }
 
-        String password = ConfigProvider.getConfig()
-                .getOptionalValue("model.registry.password", String.class)
-                .orElse(null);
+    private Duration retryDelay(int failures) {
+        Duration delay = Duration.ofSeconds(MIN_RETRY_SECONDS << Math.min(failures - 1, 20));
+        return delay.compareTo(refreshInterval) < 0 ? delay : refreshInterval;
+    }
 
-        if (token != null && !token.isBlank()) {
-            result.add("Authorization", "Bearer " + token);
-        } else if (username != null && !username.isBlank() && password != null) {
-            String credentials = username + ":" + password;
-            String encodedCredentials = Base64.getEncoder()
-                    .encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
-            result.add("Authorization", "Basic " + encodedCredentials);
+    /**
+     * Возвращает исходный токен, если он появился или изменился с прошлой проверки, иначе {@code null}.
+     */
+    private String readSubjectToken(boolean initial, Instant now) throws IOException {
+        boolean expired = expiresAt != null && !now.isBefore(expiresAt);
+        if (tokenFile.isPresent() && !tokenFile.get().isBlank()) {
+            Path path = Path.of(tokenFile.get());
+            FileStamp current = new FileStamp(Files.getLastModifiedTime(path).toMillis(), Files.size(path));
+            if (!current.equals(fileStamp) || expired) {
+                String value = Files.readString(path, StandardCharsets.UTF_8).trim();
+                readStamp = current;
+                log.info("Model Registry token loaded from {}", path);
+                return value.isEmpty() ? null : value;
+            }
+            return null;
+        }
+        if ((initial || expired) && token.isPresent() && !token.get().isBlank()) {
+            return token.get();
         }
+        return null;
+    }
 
-        result.add("Accept", "application/json");
+    private String bearer(String subjectToken) {
+        if (exchanger != null) {
+            TokenExchange.ExchangedToken exchanged = exchanger.exchange(subjectToken);
+            expiresAt = exchanged.expiresAt() == null ? null : exchanged.expiresAt().minus(EXPIRY_SKEW);
+            return "Bearer " + exchanged.accessToken();
+        }
+        expiresAt = null;
+        return "Bearer " + subjectToken;
+    }
 
-        log.debug("Headers prepared for Model Registry request");
+    private String staticAuthorization() {
+        if (username.isPresent() && !username.get().isBlank() && password.isPresent()) {
+            String credentials = username.get() + ":" + password.get();
+            return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+        }
+        return null;
+    }
 
-        return result;
+    private record FileStamp(long lastModified, long size) {
     }
 }
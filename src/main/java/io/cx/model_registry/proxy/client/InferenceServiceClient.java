@@ -25,7 +25,9 @@ import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 @Path("/inference_services")
 @RegisterRestClient(configKey = "model-registry")
 @RegisterProvider(RestClientExceptionMapper.class)
+@RegisterProvider(ResponseSizeFilter.class)
 @RegisterClientHeaders(HttpClientHeadersFactory.class)
+@Measured
 public interface InferenceServiceClient {
 
 
@@ -45,6 +47,7 @@ public interface InferenceServiceClient {
      * @return Список InferenceService с метаданными пагинации.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Produces(MediaType.APPLICATION_JSON)
     Uni<InferenceServiceList> getInferenceServices(
             @QueryParam("filterQuery") String filterQuery,
@@ -65,6 +68,7 @@ public interface InferenceServiceClient {
      * @return Ответ с созданным InferenceService (HTTP 200).
      */
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @ClientHeaderParam(name = "Content-Type", value = "application/json")
@@ -80,6 +84,7 @@ public interface InferenceServiceClient {
      * @return InferenceService.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.READ)
     @Path("/{inferenceserviceId}")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<InferenceService> getInferenceService(@PathParam("inferenceserviceId") String inferenceserviceId);
@@ -96,6 +101,7 @@ public interface InferenceServiceClient {
      * @return Обновленный InferenceService.
      */
     @PATCH
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/{inferenceserviceId}")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
@@ -114,6 +120,7 @@ public interface InferenceServiceClient {
      * @return Зарегистрированная модель (RegisteredModel).
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.READ)
     @Path("/{inferenceserviceId}/model")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<RegisteredModel> getInferenceServiceModel(@PathParam("inferenceserviceId") String inferenceserviceId);
@@ -128,6 +135,7 @@ public interface InferenceServiceClient {
      * @return Версия модели (ModelVersion).
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.READ)
     @Path("/{inferenceserviceId}/version")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ModelVersion> getInferenceServiceVersion(@PathParam("inferenceserviceId") String inferenceserviceId);
@@ -23,7 +23,9 @@ import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 @Path("/model_artifacts")
 @RegisterRestClient(configKey = "model-registry")
 @RegisterProvider(RestClientExceptionMapper.class)
+@RegisterProvider(ResponseSizeFilter.class)
 @RegisterClientHeaders(HttpClientHeadersFactory.class)
+@Measured
 public interface ModelArtifactClient {
 
     /**
@@ -37,6 +39,7 @@ public interface ModelArtifactClient {
      * @return Список артефактов модели с метаданными пагинации.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ModelArtifactList> getModelArtifacts(
             @QueryParam("filterQuery") String filterQuery,
@@ -53,6 +56,7 @@ public interface ModelArtifactClient {
      * @return Ответ с созданным артефактом модели (HTTP 201).
      */
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @ClientHeaderParam(name = "Content-Type", value = "application/json")
@@ -65,6 +69,7 @@ public interface ModelArtifactClient {
      * @return Артефакт модели.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.READ)
     @Path("/{modelartifactId}")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ModelArtifact> getModelArtifact(@PathParam("modelartifactId") String modelArtifactId);
@@ -77,6 +82,7 @@ public interface ModelArtifactClient {
      * @return Обновленный артефакт модели.
      */
     @PATCH
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/{modelartifactId}")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
@@ -17,12 +17,16 @@ import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 @Path("")
 @RegisterRestClient(configKey = "model-registry")
 @RegisterProvider(RestClientExceptionMapper.class)
+@RegisterProvider(ResponseSizeFilter.class)
 @RegisterClientHeaders(HttpClientHeadersFactory.class)
+@Measured
 public interface ModelClient {
 
 
     // Поиск RegisteredModel по имени или externalId
     @GET
+    @UpstreamBulkhead(BulkheadType.READ)
+    @Coalesced
     @Path("/registered_model")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<RegisteredModel> findRegisteredModel(
@@ -32,6 +36,8 @@ public interface ModelClient {
 
     // Получение списка всех RegisteredModel
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
+    @Coalesced
     @Path("/registered_models")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<RegisteredModelList> getRegisteredModels(
@@ -44,6 +50,7 @@ public interface ModelClient {
 
     // Создание нового RegisteredModel
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/registered_models")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
@@ -52,12 +59,15 @@ public interface ModelClient {
 
     // Получение RegisteredModel по ID
     @GET
+    @UpstreamBulkhead(BulkheadType.READ)
+    @Coalesced
     @Path("/registered_models/{registeredmodelId}")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<RegisteredModel> getRegisteredModel(@PathParam("registeredmodelId") String registeredModelId);
 
     // Обновление RegisteredModel
     @PATCH
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/registered_models/{registeredmodelId}")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
@@ -68,6 +78,7 @@ public interface ModelClient {
 
     // Получение версий модели
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Path("/registered_models/{registeredmodelId}/versions")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<Response> getRegisteredModelVersions(
@@ -82,6 +93,7 @@ public interface ModelClient {
     );
 
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/registered_models/{registeredmodelId}/versions")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
@@ -0,0 +1,39 @@
+package io.cx.model_registry.proxy.client;
+
+import jakarta.enterprise.inject.spi.CDI;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+
+import java.lang.reflect.Method;
+
+/**
+ * Передаёт размер ответа Model Registry (по заголовку {@code Content-Length}) в {@link ClientMetrics}.
+ * Ответы без {@code Content-Length} (chunked) не учитываются, чтобы не буферизовать тело.
+ */
+public class ResponseSizeFilter implements ClientResponseFilter {
+
+    private static final String INVOKED_METHOD = "org.eclipse.microprofile.rest.client.invokedMethod";
+
+    volatile ClientMetrics metrics;
+
+    @Override
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+        int length = responseContext.getLength();
+        if (length < 0) {
+            return;
+        }
+        Object invoked = requestContext.getProperty(INVOKED_METHOD);
+        String operation = invoked instanceof Method method ? ClientOperations.name(method) : ClientOperations.UNKNOWN;
+        metrics().recordResponseSize(operation, length);
+    }
+
+    private ClientMetrics metrics() {
+        ClientMetrics current = metrics;
+        if (current == null) {
+            current = CDI.current().select(ClientMetrics.class).get();
+            metrics = current;
+        }
+        return current;
+    }
+}
@@ -1,18 +1,36 @@
 package io.cx.model_registry.proxy.client;
 
 import io.cx.model_registry.proxy.exceptions.RestClientException;
+import io.cx.model_registry.proxy.exceptions.RestClientNotFoundException;
+import io.cx.model_registry.proxy.utils.RateLimitedLogger;
 import io.quarkus.rest.client.reactive.ClientExceptionMapper;
 import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.core.Response;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.cx.model_registry.proxy.utils.RestClientExceptionUtils.*;
 
+/**
+ * Преобразование ответов 4xx/5xx REST-клиентов в {@link RestClientException}.
+ * <p>
+ * HTTP-метод вызванного метода клиента определяется один раз и кэшируется.
+ * Тело ответа читается не более чем на {@code proxy.rest-client.errors.max-body-bytes} байт.
+ * Статусы из {@code proxy.rest-client.errors.expected-statuses} (по умолчанию 404) создаются
+ * без стека вызовов и логируются на уровне DEBUG; остальные ошибки логируются с ограничением частоты.
+ * </p>
+ */
 @NoArgsConstructor
 @Slf4j
 public final class RestClientExceptionMapper {
@@ -20,6 +38,8 @@ public final class RestClientExceptionMapper {
     public static final String UNKNOWN = "UNKNOWN";
     public static final String EMPTY_STRING = "";
 
+    private static final Map<Method, String> HTTP_METHODS = new ConcurrentHashMap<>();
+
     @ClientExceptionMapper
     public static RuntimeException toException(Response response, Method invokedMethod, URI uri) {
         String method = extractHttpMethod(invokedMethod);
@@ -31,38 +51,58 @@ public final class RestClientExceptionMapper {
                     .method(method)
                     .url(url)
                     .body(EMPTY_STRING);
-            log.error("REST client error: status={}, method={}, url={}, body={}",
+            Settings.ERROR_LOG.error("REST client error: status={}, method={}, url={}, body={}",
                     exception.status(), exception.method(), exception.url(), exception.body());
             return exception;
         }
 
-        if (response.getStatus() < 400) {
+        int status = response.getStatus();
+        if (status < 400) {
             return null;
         }
 
-        String body = extractBody(response);
-        RestClientException exception = new RestClientException(extractMessage(response, body))
-                .status(response.getStatus())
+        String body = extractBody(response, Settings.MAX_BODY_BYTES);
+        String message = extractMessage(response, body);
+        boolean expected = Settings.EXPECTED_STATUSES.contains(status);
+        RestClientException exception = newException(status, message, expected)
+                .status(status)
                 .headers(response.getHeaders())
                 .method(method)
                 .url(url)
                 .body(body);
 
-        log.error("REST client error: status={}, reason={}, method={}, url={}, body={}",
-                response.getStatus(),
-                extractReason(response),
-                exception.method(),
-                exception.url(),
-                body);
+        if (expected) {
+            log.debug("REST client expected error: status={}, method={}, url={}", status, method, url);
+        } else {
+            Settings.ERROR_LOG.error("REST client error: status={}, reason={}, method={}, url={}, body={}",
+                    status,
+                    extractReason(response),
+                    exception.method(),
+                    exception.url(),
+                    body);
+        }
 
         return exception;
     }
 
+    /**
+     * Стек вызовов не собирается только для статусов из {@code expected-statuses}, в том числе для 404.
+     */
+    static RestClientException newException(int status, String message, boolean expected) {
+        if (status == 404) {
+            return new RestClientNotFoundException(message, !expected);
+        }
+        return expected ? new ExpectedRestClientException(message) : new RestClientException(message);
+    }
+
     private static String extractHttpMethod(Method invokedMethod) {
         if (invokedMethod == null) {
             return UNKNOWN;
         }
+        return HTTP_METHODS.computeIfAbsent(invokedMethod, RestClientExceptionMapper::resolveHttpMethod);
+    }
 
+    private static String resolveHttpMethod(Method invokedMethod) {
         for (Annotation annotation : invokedMethod.getAnnotations()) {
             HttpMethod httpMethod = annotation.annotationType().getAnnotation(HttpMethod.class);
             if (httpMethod != null && httpMethod.value() != null && !httpMethod.value().isBlank()) {
@@ -71,4 +111,34 @@ public final class RestClientExceptionMapper {
         }
         return invokedMethod.getName();
     }
+
+    /**
+     * Ожидаемая ошибка, для которой стек вызовов не собирается.
+     */
+    private static final class ExpectedRestClientException extends RestClientException {
+        private ExpectedRestClientException(String message) {
+            super(message, false);
+        }
+    }
+
+    /**
+     * Настройки читаются один раз при первой ошибке.
+     */
+    private static final class Settings {
+        private static final Config CONFIG = ConfigProvider.getConfig();
+
+        private static final int MAX_BODY_BYTES = CONFIG
+                .getOptionalValue("proxy.rest-client.errors.max-body-bytes", Integer.class)
+                .orElse(4096);
+
+        private static final Set<Integer> EXPECTED_STATUSES = Set.copyOf(CONFIG
+                .getOptionalValues("proxy.rest-client.errors.expected-statuses", Integer.class)
+                .orElse(List.of(404)));
+
+        private static final RateLimitedLogger ERROR_LOG = new RateLimitedLogger(log,
+                CONFIG.getOptionalValue("proxy.rest-client.errors.log-window", Duration.class)
+                        .orElse(Duration.ofSeconds(10)),
+                CONFIG.getOptionalValue("proxy.rest-client.errors.log-permits", Long.class)
+                        .orElse(20L));
+    }
 }
@@ -18,13 +18,17 @@ import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
 @Path("")
+@Coalesced
 @RegisterRestClient(configKey = "model-registry")
 @RegisterProvider(RestClientExceptionMapper.class)
+@RegisterProvider(ResponseSizeFilter.class)
 @RegisterClientHeaders(HttpClientHeadersFactory.class)
+@Measured
 public interface SearchClient {
 
     // Поиск ModelVersion по имени, externalId или parentResourceId
     @GET
+    @UpstreamBulkhead(BulkheadType.SEARCH)
     @Path("/model_version")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ModelVersion> findModelVersion(
@@ -43,6 +47,7 @@ public interface SearchClient {
      * @return Найденный артефакт модели.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.SEARCH)
     @Path("/model_artifact")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ModelArtifact> findModelArtifact(
@@ -65,6 +70,7 @@ public interface SearchClient {
      * @return Найденный артефакт или ошибка 404, если артефакт не найден.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.SEARCH)
     @Path("/artifact")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<Artifact> findArtifact(
@@ -86,6 +92,7 @@ public interface SearchClient {
      * @return Найденный эксперимент или ошибка 404, если эксперимент не найден.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.SEARCH)
     @Path("/experiment")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<Experiment> findExperiment(
@@ -94,6 +101,7 @@ public interface SearchClient {
     );
 
     @GET
+    @UpstreamBulkhead(BulkheadType.SEARCH)
     @Path("/experiment_run")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ExperimentRun> findExperimentRun(
@@ -115,6 +123,7 @@ public interface SearchClient {
      * @return Найденный InferenceService.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.SEARCH)
     @Path("/inference_service")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<InferenceService> findInferenceService(
@@ -135,6 +144,7 @@ public interface SearchClient {
      * @return Найденный ServingEnvironment.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.SEARCH)
     @Path("/serving_environment")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ServingEnvironment> findServingEnvironment(
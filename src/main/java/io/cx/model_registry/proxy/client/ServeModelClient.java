@@ -22,7 +22,9 @@ import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 @Path("/inference_services/{inferenceserviceId}/serves")
 @RegisterRestClient(configKey = "model-registry")
 @RegisterProvider(RestClientExceptionMapper.class)
+@RegisterProvider(ResponseSizeFilter.class)
 @RegisterClientHeaders(HttpClientHeadersFactory.class)
+@Measured
 public interface ServeModelClient {
 
     /**
@@ -43,6 +45,7 @@ public interface ServeModelClient {
      * @return Список ServeModel с метаданными пагинации.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ServeModelList> getInferenceServiceServes(
             @PathParam("inferenceserviceId") String inferenceserviceId,
@@ -67,6 +70,7 @@ public interface ServeModelClient {
      * @return Ответ с созданным ServeModel (HTTP 201).
      */
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @ClientHeaderParam(name = "Content-Type", value = "application/json")
@@ -26,7 +26,9 @@ import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 @Path("/serving_environments")
 @RegisterRestClient(configKey = "model-registry")
 @RegisterProvider(RestClientExceptionMapper.class)
+@RegisterProvider(ResponseSizeFilter.class)
 @RegisterClientHeaders(HttpClientHeadersFactory.class)
+@Measured
 public interface ServingEnvironmentClient {
 
     /**
@@ -44,6 +46,7 @@ public interface ServingEnvironmentClient {
      * @return Список ServingEnvironment с метаданными пагинации.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ServingEnvironmentList> getServingEnvironments(
             @QueryParam("filterQuery") String filterQuery,
@@ -64,6 +67,7 @@ public interface ServingEnvironmentClient {
      * @return Ответ с созданным ServingEnvironment (HTTP 201).
      */
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @ClientHeaderParam(name = "Content-Type", value = "application/json")
@@ -79,6 +83,7 @@ public interface ServingEnvironmentClient {
      * @return ServingEnvironment.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.READ)
     @Path("/{servingenvironmentId}")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ServingEnvironment> getServingEnvironment(@PathParam("servingenvironmentId") String servingenvironmentId);
@@ -95,6 +100,7 @@ public interface ServingEnvironmentClient {
      * @return Обновленный ServingEnvironment.
      */
     @PATCH
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/{servingenvironmentId}")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
@@ -121,6 +127,7 @@ public interface ServingEnvironmentClient {
      * @return Список InferenceService с метаданными пагинации.
      */
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Path("/{servingenvironmentId}/inference_services")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<InferenceServiceList> getEnvironmentInferenceServices(
@@ -146,6 +153,7 @@ public interface ServingEnvironmentClient {
      * @return Ответ с созданным InferenceService (HTTP 201).
      */
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/{servingenvironmentId}/inference_services")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
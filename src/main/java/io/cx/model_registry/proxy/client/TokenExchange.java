@@ -0,0 +1,23 @@
+package io.cx.model_registry.proxy.client;
+
+import java.time.Instant;
+
+/**
+ * Необязательный обмен исходного токена (например, service account token из смонтированного файла)
+ * на токен доступа к Model Registry.
+ * <p>
+ * Если в приложении есть CDI-бин с этим интерфейсом, {@link HttpClientHeadersFactory} вызывает его
+ * при смене исходного токена и по истечении срока действия полученного токена, но не на каждый запрос.
+ * </p>
+ */
+public interface TokenExchange {
+
+    ExchangedToken exchange(String subjectToken);
+
+    /**
+     * @param accessToken токен для заголовка {@code Authorization: Bearer}
+     * @param expiresAt   момент истечения; {@code null}, если срок не ограничен
+     */
+    record ExchangedToken(String accessToken, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,23 @@
+package io.cx.model_registry.proxy.client;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Ограничивает параллелизм вызовов метода REST-клиента bulkhead-ом указанного класса трафика.
+ *
+ * @see UpstreamBulkheadInterceptor
+ */
+@InterceptorBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UpstreamBulkhead {
+
+    @Nonbinding
+    BulkheadType value() default BulkheadType.READ;
+}
@@ -0,0 +1,84 @@
+package io.cx.model_registry.proxy.client;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.ws.rs.QueryParam;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Выполняет вызовы методов, помеченных {@link UpstreamBulkhead}, через bulkhead их класса трафика.
+ * <p>
+ * Работает внутри {@link CoalescingInterceptor}, поэтому объединённые запросы занимают один слот.
+ * Списочный запрос с {@code pageSize=1} (проверка актуальности кэша) по объёму равен чтению одной
+ * сущности, поэтому выполняется через {@link BulkheadType#READ}, а не {@link BulkheadType#BULK}.
+ * </p>
+ */
+@UpstreamBulkhead
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION + 20)
+public class UpstreamBulkheadInterceptor {
+
+    private static final String PAGE_SIZE = "pageSize";
+    private static final Map<Method, Integer> PAGE_SIZE_PARAMS = new ConcurrentHashMap<>();
+
+    @Inject
+    UpstreamBulkheads bulkheads;
+
+    @ConfigProperty(name = "proxy.bulkhead.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @AroundInvoke
+    Object limit(InvocationContext context) throws Exception {
+        if (!enabled || !Uni.class.isAssignableFrom(context.getMethod().getReturnType())) {
+            return context.proceed();
+        }
+        UpstreamBulkhead binding = context.getInterceptorBinding(UpstreamBulkhead.class);
+        BulkheadType type = classify(binding != null ? binding.value() : BulkheadType.READ,
+                context.getMethod(), context.getParameters());
+        // Uni REST-клиента ленивый: запрос уходит только при подписке, которую откладывает bulkhead.
+        Uni<Object> call = proceed(context);
+        return bulkheads.get(type).execute(() -> call);
+    }
+
+    static BulkheadType classify(BulkheadType declared, Method method, Object[] arguments) {
+        if (declared != BulkheadType.BULK || arguments == null) {
+            return declared;
+        }
+        int index = PAGE_SIZE_PARAMS.computeIfAbsent(method, UpstreamBulkheadInterceptor::pageSizeIndex);
+        return index >= 0 && index < arguments.length && arguments[index] instanceof Integer size && size == 1
+                ? BulkheadType.READ
+                : declared;
+    }
+
+    private static int pageSizeIndex(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length; i++) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof QueryParam query && PAGE_SIZE.equals(query.value())) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Uni<Object> proceed(InvocationContext context) {
+        try {
+            return (Uni<Object>) context.proceed();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.cx.model_registry.proxy.client;
+
+import io.cx.model_registry.proxy.exceptions.BulkheadRejectedException;
+import io.cx.model_registry.proxy.utils.AsyncBulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.Config;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Именованные семафорные bulkhead для классов трафика {@link BulkheadType}.
+ * <p>
+ * Каждый bulkhead ограничивает число одновременных и ожидающих вызовов своего класса до захвата
+ * соединения; отдельных пулов соединений для классов нет.
+ * </p>
+ * <p>
+ * Параметры: {@code proxy.bulkhead.<read|search|write|bulk>.max-concurrent} и {@code .max-queued}.
+ * Метрики: {@code registry.client.bulkhead.in-flight}, {@code registry.client.bulkhead.queued}
+ * и {@code registry.client.bulkhead.rejected} с тегом {@code bulkhead}.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+public class UpstreamBulkheads {
+
+    private static final Map<BulkheadType, int[]> DEFAULTS = Map.of(
+            BulkheadType.READ, new int[]{32, 64},
+            BulkheadType.SEARCH, new int[]{16, 64},
+            BulkheadType.WRITE, new int[]{16, 32},
+            BulkheadType.BULK, new int[]{4, 8}
+    );
+
+    @Inject
+    Config config;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final Map<BulkheadType, AsyncBulkhead> bulkheads = new EnumMap<>(BulkheadType.class);
+
+    @PostConstruct
+    void init() {
+        for (BulkheadType type : BulkheadType.values()) {
+            String prefix = "proxy.bulkhead." + type.configName();
+            int maxConcurrent = config.getOptionalValue(prefix + ".max-concurrent", Integer.class)
+                    .orElse(DEFAULTS.get(type)[0]);
+            int maxQueued = config.getOptionalValue(prefix + ".max-queued", Integer.class)
+                    .orElse(DEFAULTS.get(type)[1]);
+
+            Counter rejected = meterRegistry.counter("registry.client.bulkhead.rejected",
+                    "bulkhead", type.configName());
+            AsyncBulkhead bulkhead = new AsyncBulkhead(maxConcurrent, maxQueued, () -> {
+                rejected.increment();
+                return new BulkheadRejectedException(type.configName());
+            });
+            Gauge.builder("registry.client.bulkhead.in-flight", bulkhead, AsyncBulkhead::inFlight)
+                    .tag("bulkhead", type.configName())
+                    .register(meterRegistry);
+            Gauge.builder("registry.client.bulkhead.queued", bulkhead, AsyncBulkhead::queued)
+                    .tag("bulkhead", type.configName())
+                    .register(meterRegistry);
+
+            bulkheads.put(type, bulkhead);
+            log.info("Semaphore bulkhead {} initialized: maxConcurrent={}, maxQueued={}", type, maxConcurrent, maxQueued);
+        }
+    }
+
+    public AsyncBulkhead get(BulkheadType type) {
+        return bulkheads.get(type);
+    }
+}
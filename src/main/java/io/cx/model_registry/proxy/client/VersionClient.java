@@ -17,16 +17,21 @@ import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 @Path("/model_versions")
 @RegisterRestClient(configKey = "model-registry")
 @RegisterProvider(RestClientExceptionMapper.class)
+@RegisterProvider(ResponseSizeFilter.class)
 @RegisterClientHeaders(HttpClientHeadersFactory.class)
+@Measured
 public interface VersionClient {
 
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @ClientHeaderParam(name = "Content-Type", value = "application/json")
     Uni<ModelVersion> createModelVersion(ModelVersionCreate versionCreate);
 
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
+    @Coalesced
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ModelVersionList> getModelVersions(
             @QueryParam("filterQuery") String filterQuery,
@@ -37,17 +42,21 @@ public interface VersionClient {
     );
 
     @GET
+    @UpstreamBulkhead(BulkheadType.READ)
+    @Coalesced
     @Path("/{modelversionId}")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ModelVersion> getModelVersion(@PathParam("modelversionId") String versionId);
 
     @PATCH
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/{modelversionId}")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ModelVersion> updateModelVersion(@PathParam("modelversionId") String versionId, ModelVersionUpdate versionUpdate);
 
     @GET
+    @UpstreamBulkhead(BulkheadType.BULK)
     @Path("/{modelversionId}/artifacts")
     @Produces(MediaType.APPLICATION_JSON)
     Uni<ArtifactList> getModelVersionArtifacts(
@@ -63,6 +72,7 @@ public interface VersionClient {
     );
 
     @POST
+    @UpstreamBulkhead(BulkheadType.WRITE)
     @Path("/{modelversionId}/artifacts")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
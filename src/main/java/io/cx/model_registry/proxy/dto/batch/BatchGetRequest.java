@@ -0,0 +1,26 @@
+package io.cx.model_registry.proxy.dto.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * Запрос пакетного получения сущностей по идентификаторам.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true, fluent = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchGetRequest {
+
+    @JsonProperty("ids")
+    @NotEmpty(message = "'ids' must be provided")
+    private List<String> ids;
+}
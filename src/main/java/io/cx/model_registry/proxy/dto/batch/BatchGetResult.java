@@ -0,0 +1,30 @@
+package io.cx.model_registry.proxy.dto.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Результат пакетного получения: найденные сущности в порядке запроса и ошибки по идентификаторам.
+ *
+ * @param <T> тип сущности
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true, fluent = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchGetResult<T> {
+
+    @JsonProperty("items")
+    private List<T> items;
+
+    @JsonProperty("errors")
+    private Map<String, BatchItemError> errors;
+}
@@ -0,0 +1,25 @@
+package io.cx.model_registry.proxy.dto.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * Ошибка получения одной сущности в пакетном запросе.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true, fluent = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemError {
+
+    @JsonProperty("status")
+    private int status;
+
+    @JsonProperty("message")
+    private String message;
+}
@@ -0,0 +1,12 @@
+package io.cx.model_registry.proxy.exceptions;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+public class BulkheadRejectedException extends WebApplicationException {
+
+    public BulkheadRejectedException(String bulkhead) {
+        super("Too many concurrent Model Registry requests in bulkhead '" + bulkhead + "'",
+                Response.Status.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,11 @@
+package io.cx.model_registry.proxy.exceptions;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+public class CommandQueueRejectedException extends WebApplicationException {
+
+    public CommandQueueRejectedException(String key) {
+        super("Too many pending commands for aggregate '" + key + "'", Response.Status.SERVICE_UNAVAILABLE);
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,24 +24,37 @@ public class RestClientException extends RuntimeException {
     private Map<String, String> info;
 
     public RestClientException(String message) {
-        super(message);
-        info = collectInfo();
-
+        this(message, true);
     }
 
-    private Map<String, String> collectInfo() {
-        Map<String, String> info = new HashMap<>();
-        info.put("javaVersion", System.getProperty("java.version"));
-        info.put("osName", System.getProperty("os.name"));
-        info.put("hostname", getHostname());
-        return info;
+    /**
+     * @param writableStackTrace {@code false} для ожидаемых ошибок, для которых стек вызовов не нужен
+     */
+    protected RestClientException(String message, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+        info = HostInfo.INFO;
     }
 
-    private String getHostname() {
-        try {
-            return java.net.InetAddress.getLocalHost().getHostName();
-        } catch (Exception e) {
-            return "unknown";
+    /**
+     * Сведения о хосте не меняются, поэтому вычисляются один раз (в т.ч. DNS-запрос имени хоста).
+     */
+    private static final class HostInfo {
+        private static final Map<String, String> INFO = collectInfo();
+
+        private static Map<String, String> collectInfo() {
+            Map<String, String> info = new HashMap<>();
+            info.put("javaVersion", System.getProperty("java.version"));
+            info.put("osName", System.getProperty("os.name"));
+            info.put("hostname", getHostname());
+            return Collections.unmodifiableMap(info);
+        }
+
+        private static String getHostname() {
+            try {
+                return java.net.InetAddress.getLocalHost().getHostName();
+            } catch (Exception e) {
+                return "unknown";
+            }
         }
     }
 }
@@ -0,0 +1,18 @@
+package io.cx.model_registry.proxy.exceptions;
+
+/**
+ * Ответ 404 от Model Registry.
+ */
+public class RestClientNotFoundException extends RestClientException {
+
+    public RestClientNotFoundException(String message) {
+        this(message, true);
+    }
+
+    /**
+     * @param writableStackTrace {@code false}, если 404 входит в ожидаемые статусы и стек вызовов не нужен
+     */
+    public RestClientNotFoundException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
+}
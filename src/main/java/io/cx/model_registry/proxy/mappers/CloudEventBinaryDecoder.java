@@ -0,0 +1,94 @@
+package io.cx.model_registry.proxy.mappers;
+
+import io.cx.model_registry.proxy.mappers.deserializers.CloudEventDeserializerRegistry;
+import io.cx.platform.events.BaseEvent;
+import io.cx.platform.events.serde.CloudEventDeserializer;
+import io.quarkus.funqy.knative.events.CloudEvent;
+import io.quarkus.funqy.knative.events.CloudEventBuilder;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Декодирование CloudEvent в binary mode (атрибуты в заголовках {@code ce-*} HTTP или {@code ce_*} Kafka, данные в теле).
+ * <p>
+ * Десериализатор выбирается по атрибутам без разбора тела, поэтому тело события неизвестного типа
+ * не читается. Команда всегда собирается через {@link CloudEventDeserializer#deserialize}: только он
+ * переносит в неё атрибуты и расширения CloudEvent ({@code userId}, {@code queryId} и др.).
+ * Тело известного типа разбирается в {@code JsonObject} целиком, как и в функциях Funqy.
+ * </p>
+ */
+@ApplicationScoped
+public class CloudEventBinaryDecoder {
+
+    private static final String HTTP_PREFIX = "ce-";
+    private static final Set<String> ATTRIBUTES = Set.of(
+            "id", "specversion", "source", "type", "subject", "time", "dataschema"
+    );
+
+    @Inject
+    CloudEventDeserializerRegistry registry;
+
+    /**
+     * Атрибуты CloudEvent из HTTP-заголовков {@code ce-*} без префикса.
+     */
+    public static Map<String, String> attributes(HttpHeaders headers) {
+        Map<String, String> attributes = new HashMap<>();
+        headers.getRequestHeaders().forEach((name, values) -> {
+            String key = name.toLowerCase();
+            if (key.startsWith(HTTP_PREFIX) && !values.isEmpty()) {
+                attributes.put(key.substring(HTTP_PREFIX.length()), values.get(0));
+            }
+        });
+        return attributes;
+    }
+
+    /**
+     * @param attributes  атрибуты и расширения CloudEvent без префикса транспорта ({@code id}, {@code type}, ...)
+     * @param contentType тип содержимого данных
+     */
+    public <T extends BaseEvent> T decode(
+            Map<String, String> attributes,
+            String contentType,
+            byte[] body,
+            Class<T> rootType
+    ) {
+        CloudEvent<JsonObject> header = event(attributes, contentType, null);
+        CloudEventDeserializer<? extends BaseEvent> deserializer = registry.resolve(header, rootType);
+        if (deserializer == null) {
+            return null;
+        }
+
+        JsonObject data = body == null || body.length == 0 ? null : new JsonObject(Buffer.buffer(body));
+        return rootType.cast(deserializer.deserialize(event(attributes, contentType, data)));
+    }
+
+    static CloudEvent<JsonObject> event(Map<String, String> attributes, String contentType, JsonObject data) {
+        Map<String, String> extensions = new HashMap<>();
+        attributes.forEach((name, value) -> {
+            if (!ATTRIBUTES.contains(name)) {
+                extensions.put(name, value);
+            }
+        });
+
+        String time = attributes.get("time");
+        return CloudEventBuilder.create()
+                .id(attributes.get("id"))
+                .specVersion(attributes.get("specversion"))
+                .source(attributes.get("source"))
+                .type(attributes.get("type"))
+                .subject(attributes.get("subject"))
+                .time(time == null ? null : OffsetDateTime.parse(time))
+                .dataSchema(attributes.get("dataschema"))
+                .dataContentType(contentType)
+                .extensions(extensions)
+                .build(data);
+    }
+}
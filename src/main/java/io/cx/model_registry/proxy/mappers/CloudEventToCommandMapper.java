@@ -1,11 +1,14 @@
 package io.cx.model_registry.proxy.mappers;
 
 import io.cx.model_registry.proxy.mappers.deserializers.CloudEventDeserializerRegistry;
+import io.cx.model_registry.proxy.utils.PayloadLogger;
+import io.cx.model_registry.proxy.utils.PayloadLogging;
 import io.cx.platform.events.artifacts.commands.ArtifactEventsCommand;
 import io.cx.platform.events.models.commands.ModelEventsCommand;
 import io.cx.platform.events.modelversions.commands.ModelVersionEventsCommand;
 import io.quarkus.funqy.knative.events.CloudEvent;
 import io.vertx.core.json.JsonObject;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
@@ -17,18 +20,28 @@ public class CloudEventToCommandMapper {
     @Inject
     CloudEventDeserializerRegistry registry;
 
+    @Inject
+    PayloadLogging payloadLogging;
+
+    private PayloadLogger payloads;
+
+    @PostConstruct
+    void init() {
+        payloads = payloadLogging.logger("events", log);
+    }
+
     public ModelEventsCommand toModelEventCommand(CloudEvent<JsonObject> event) {
-        log.info("$ toModelEventCommand() called with: event = [{}]", event);
+        payloads.debug("toModelEventCommand() event", event);
         return registry.deserialize(event, ModelEventsCommand.class);
     }
 
     public ModelVersionEventsCommand toModelVersionEventCommand(CloudEvent<JsonObject> event) {
-        log.info("$ toModelVersionEventCommand() called with: event = [{}]", event);
+        payloads.debug("toModelVersionEventCommand() event", event);
         return registry.deserialize(event, ModelVersionEventsCommand.class);
     }
 
     public ArtifactEventsCommand toArtifactEventCommand(CloudEvent<JsonObject> event) {
-        log.info("$ toArtifactEventCommand() called with: event = [{}]", event);
+        payloads.debug("toArtifactEventCommand() event", event);
         return registry.deserialize(event, ArtifactEventsCommand.class);
     }
 }
@@ -14,6 +14,8 @@ import io.cx.model_registry.proxy.dto.versions.ModelVersionCreate;
 import io.cx.model_registry.proxy.dto.versions.ModelVersionList;
 import io.cx.model_registry.proxy.dto.versions.ModelVersionState;
 import io.cx.model_registry.proxy.dto.versions.ModelVersionUpdate;
+import io.cx.model_registry.proxy.utils.PayloadLogger;
+import io.cx.model_registry.proxy.utils.PayloadLogging;
 import io.cx.platform.events.models.ModelInfo;
 import io.cx.platform.events.models.commands.CreateModelCommandPayload;
 import io.cx.platform.events.models.commands.ModelEventsCommand;
@@ -30,8 +32,9 @@ import io.cx.platform.events.modelversions.commands.CreateModelVersionCommandPay
 import io.cx.platform.events.modelversions.commands.ModelVersionEventsCommand;
 import io.cx.platform.events.modelversions.commands.UpdateModelVersionCommandPayload;
 import io.vertx.core.json.Json;
-import io.vertx.core.json.JsonObject;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 
@@ -47,9 +50,18 @@ import static java.util.function.Predicate.not;
 @ApplicationScoped
 public class ModelRegistryMapper {
 
+    @Inject
+    PayloadLogging payloadLogging;
+
+    private PayloadLogger payloads;
+
+    @PostConstruct
+    void init() {
+        payloads = payloadLogging.logger("mapper", log);
+    }
 
     public ModelInfo toModelInfo(RegisteredModel registeredModel) {
-        log.info("$ toModelInfo() called with: registeredModel = [{}]", JsonObject.mapFrom(registeredModel).encodePrettily());
+        payloads.debug("toModelInfo() registeredModel", registeredModel);
 
         Objects.requireNonNull(registeredModel, "registeredModel must not be null");
         var customProperties = registeredModel.customProperties() != null
@@ -143,10 +155,9 @@ public class ModelRegistryMapper {
     }
 
     public RegisteredModelUpdate toUpdateModelRequest(ModelEventsCommand.UpdateModelCommand command) {
-        log.info("$ toUpdateModelRequest() called with: command = [{}]", command);
+        payloads.debug("toUpdateModelRequest() command", command);
 
         UpdateModelCommandPayload payload = command.payload();
-        log.info("name : " + payload.name());
 
         HashMap<String, @Valid MetadataValue> props = new HashMap<>();
 
@@ -159,7 +170,7 @@ public class ModelRegistryMapper {
                 .map(values -> String.join(DELIMITER, values))
                 .ifPresent(s -> props.put(LABELS_CUSTOM_PROPERTIES_KEY, new MetadataStringValue(s)));
 
-        log.info("$ props: {}", props);
+        payloads.debug("toUpdateModelRequest() props", props);
 
         if (payload == null) {
             throw new IllegalArgumentException("update request is empty");
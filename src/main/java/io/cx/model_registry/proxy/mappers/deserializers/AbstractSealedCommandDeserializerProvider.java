@@ -5,66 +5,57 @@ import io.cx.platform.events.serde.CloudEventDeserializer;
 import io.cx.platform.events.serde.ExtensionDeserializer;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.lang.reflect.Constructor;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
 
+/**
+ * Провайдер десериализаторов для sealed-иерархии команд.
+ * <p>
+ * Классы десериализаторов берутся из {@link DeserializerCatalog}; здесь создаются только экземпляры.
+ * Если для какой-либо команды десериализатор не найден, старт завершается ошибкой,
+ * пока не задано {@code proxy.events.deserializers.fail-on-missing=false}.
+ * </p>
+ */
 @Slf4j
 public abstract class AbstractSealedCommandDeserializerProvider implements CloudEventDeserializerProvider {
 
-    private static final String DESERIALIZER_SUFFIX = "Deserializer";
-
     @Inject
     ExtensionDeserializer extensionDeserializer;
 
-    protected abstract Class<?> sealedRoot();
+    @ConfigProperty(name = "proxy.events.deserializers.fail-on-missing", defaultValue = "true")
+    boolean failOnMissing;
 
-    protected abstract String deserializerPackage();
+    protected abstract Class<?> sealedRoot();
 
     @Override
-    public Collection<CloudEventDeserializer<? extends BaseEvent>> deserializers() {
-        return Arrays.stream(sealedRoot().getPermittedSubclasses())
-                .map(Class::getSimpleName)
-                .map(this::resolveDeserializer)
-                .flatMap(Optional::stream)
-                .toList();
+    public Class<?> rootType() {
+        return sealedRoot();
     }
 
-    private Optional<CloudEventDeserializer<? extends BaseEvent>> resolveDeserializer(String simpleName) {
-        List<String> candidates = List.of(
-                deserializerPackage() + "." + simpleName + DESERIALIZER_SUFFIX,
-                deserializerPackage() + "." + simpleName + "Command" + DESERIALIZER_SUFFIX
-        );
-
-        for (String className : candidates) {
-            Optional<CloudEventDeserializer<? extends BaseEvent>> maybe = newDeserializerInstance(className);
-            if (maybe.isPresent()) {
-                return maybe;
+    @Override
+    public Collection<CloudEventDeserializer<? extends BaseEvent>> deserializers() {
+        DeserializerCatalog.Resolution resolution = DeserializerCatalog.forRoot(sealedRoot());
+        if (!resolution.missing().isEmpty()) {
+            if (failOnMissing) {
+                throw new IllegalStateException("No deserializer found for commands of "
+                        + sealedRoot().getSimpleName() + ": " + resolution.missing());
             }
+            log.warn("No deserializer found for commands of {}: {}", sealedRoot().getSimpleName(), resolution.missing());
         }
-        log.warn("No matching deserializer class found for command {} in package {}", simpleName, deserializerPackage());
-        return Optional.empty();
+        return resolution.constructors().stream()
+                .<CloudEventDeserializer<? extends BaseEvent>>map(this::newDeserializerInstance)
+                .toList();
     }
 
     @SuppressWarnings("unchecked")
-    private Optional<CloudEventDeserializer<? extends BaseEvent>> newDeserializerInstance(String className) {
+    private CloudEventDeserializer<? extends BaseEvent> newDeserializerInstance(Constructor<?> constructor) {
         try {
-            Class<?> deserializerClass = Class.forName(className);
-            Constructor<?> constructor = deserializerClass.getConstructor(ExtensionDeserializer.class);
-            Object value = constructor.newInstance(extensionDeserializer);
-            if (value instanceof CloudEventDeserializer<?> deserializer) {
-                return Optional.of((CloudEventDeserializer<? extends BaseEvent>) deserializer);
-            }
-            log.warn("Class {} exists but is not a CloudEventDeserializer", className);
-            return Optional.empty();
-        } catch (ClassNotFoundException e) {
-            return Optional.empty();
-        } catch (Exception e) {
-            log.error("Unable to initialize cloud-event deserializer {}", className, e);
-            return Optional.empty();
+            return (CloudEventDeserializer<? extends BaseEvent>) constructor.newInstance(extensionDeserializer);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Unable to initialize cloud-event deserializer " + constructor.getDeclaringClass().getName(), e);
         }
     }
 }
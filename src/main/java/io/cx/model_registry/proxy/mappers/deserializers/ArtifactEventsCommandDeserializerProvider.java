@@ -1,8 +1,12 @@
 package io.cx.model_registry.proxy.mappers.deserializers;
 
+import io.cx.model_registry.proxy.Const.CloudEventTypes;
 import io.cx.platform.events.artifacts.commands.ArtifactEventsCommand;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.Collection;
+import java.util.List;
+
 @ApplicationScoped
 public class ArtifactEventsCommandDeserializerProvider extends AbstractSealedCommandDeserializerProvider {
 
@@ -12,7 +16,7 @@ public class ArtifactEventsCommandDeserializerProvider extends AbstractSealedCom
     }
 
     @Override
-    protected String deserializerPackage() {
-        return "io.cx.platform.events.serde.artifacts.commands";
+    public Collection<String> ceTypes() {
+        return List.of(CloudEventTypes.ARTIFACT_COMMAND);
     }
 }
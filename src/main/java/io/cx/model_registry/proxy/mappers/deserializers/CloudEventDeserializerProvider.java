@@ -4,8 +4,24 @@ import io.cx.platform.events.BaseEvent;
 import io.cx.platform.events.serde.CloudEventDeserializer;
 
 import java.util.Collection;
+import java.util.List;
 
 public interface CloudEventDeserializerProvider {
     Collection<CloudEventDeserializer<? extends BaseEvent>> deserializers();
+
+    /**
+     * Корневой тип событий провайдера, для которого индекс диспетчеризации строится при старте.
+     */
+    default Class<?> rootType() {
+        return null;
+    }
+
+    /**
+     * Типы CloudEvent, с которыми приходят события провайдера; таблицы диспетчеризации для них
+     * создаются при старте.
+     */
+    default Collection<String> ceTypes() {
+        return List.of();
+    }
 }
 
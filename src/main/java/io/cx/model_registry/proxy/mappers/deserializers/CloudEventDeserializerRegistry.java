@@ -4,21 +4,35 @@ import io.cx.platform.events.BaseEvent;
 import io.cx.platform.events.serde.CloudEventDeserializer;
 import io.quarkus.arc.All;
 import io.quarkus.funqy.knative.events.CloudEvent;
+import io.quarkus.runtime.Startup;
 import io.vertx.core.json.JsonObject;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-import static io.cx.model_registry.proxy.Const.Common.DELIMITER;
 
+/**
+ * Выбор десериализатора CloudEvent по корневому типу команды и ce-type.
+ * <p>
+ * Индексы {@link DispatchIndex} строятся при старте для корневых типов провайдеров, вместе с таблицами
+ * для их ce-type. Индекс ограничен {@code proxy.events.dispatch.max-types} типами на корень и
+ * {@code proxy.events.dispatch.max-subjects} значениями subject на тип, поэтому память не растёт
+ * от числа различных сущностей.
+ * </p>
+ * <p>
+ * Бин создаётся при старте ({@link Startup}), поэтому отсутствующий десериализатор
+ * при {@code proxy.events.deserializers.fail-on-missing=true} прерывает запуск приложения,
+ * а не первую обработку события.
+ * </p>
+ */
 @Slf4j
+@Startup
 @ApplicationScoped
 public class CloudEventDeserializerRegistry {
 
@@ -26,7 +40,14 @@ public class CloudEventDeserializerRegistry {
     @All
     List<CloudEventDeserializerProvider> providers;
 
-    private final Map<String, CloudEventDeserializer<? extends BaseEvent>> cache = new ConcurrentHashMap<>();
+    @ConfigProperty(name = "proxy.events.dispatch.max-types", defaultValue = "1024")
+    int maxTypes;
+
+    @ConfigProperty(name = "proxy.events.dispatch.max-subjects", defaultValue = "10000")
+    long maxSubjects;
+
+    private final Map<Class<?>, DispatchIndex<CloudEventDeserializer<? extends BaseEvent>, CloudEvent<JsonObject>>> indexes =
+            new ConcurrentHashMap<>();
     private List<CloudEventDeserializer<? extends BaseEvent>> deserializers = List.of();
 
     @PostConstruct
@@ -34,8 +55,12 @@ public class CloudEventDeserializerRegistry {
         deserializers = providers.stream()
                 .flatMap(provider -> provider.deserializers().stream())
                 .toList();
-        log.info("CloudEventDeserializerRegistry initialized with {} deserializers from {} providers",
-                deserializers.size(), providers.size());
+        providers.stream()
+                .filter(provider -> provider.rootType() != null)
+                .forEach(provider -> indexes.computeIfAbsent(provider.rootType(),
+                        root -> newIndex(root, provider.ceTypes())));
+        log.info("CloudEventDeserializerRegistry initialized with {} deserializers from {} providers, {} root types",
+                deserializers.size(), providers.size(), indexes.size());
     }
 
     public <T extends BaseEvent> T deserialize(CloudEvent<JsonObject> event, Class<T> rootType) {
@@ -43,30 +68,46 @@ public class CloudEventDeserializerRegistry {
             return null;
         }
 
-        String key = cacheKey(rootType, event.type(), event.subject());
-        CloudEventDeserializer<? extends BaseEvent> cached = cache.get(key);
-        if (cached != null) {
-            return rootType.cast(cached.deserialize(event));
+        CloudEventDeserializer<? extends BaseEvent> resolved = resolve(event, rootType);
+        if (resolved == null) {
+            return null;
         }
+        return rootType.cast(resolved.deserialize(event));
+    }
 
-        CloudEventDeserializer<? extends BaseEvent> resolved = deserializers.stream()
-                .filter(deserializer -> rootType.isAssignableFrom(deserializer.eventClass()))
-                .filter(deserializer -> deserializer.supports(event))
-                .findFirst()
-                .orElse(null);
-
+    /**
+     * Подбирает десериализатор без чтения данных события: достаточно атрибутов CloudEvent.
+     */
+    public CloudEventDeserializer<? extends BaseEvent> resolve(CloudEvent<JsonObject> event, Class<?> rootType) {
+        CloudEventDeserializer<? extends BaseEvent> resolved = index(rootType).resolve(event.type(), event);
         if (resolved == null) {
             log.debug("No deserializer found for rootType={}, type={}, subject={}",
                     rootType.getSimpleName(), event.type(), event.subject());
-            return null;
         }
+        return resolved;
+    }
 
-        cache.putIfAbsent(key, resolved);
-        return rootType.cast(resolved.deserialize(event));
+    private DispatchIndex<CloudEventDeserializer<? extends BaseEvent>, CloudEvent<JsonObject>> index(Class<?> rootType) {
+        DispatchIndex<CloudEventDeserializer<? extends BaseEvent>, CloudEvent<JsonObject>> index = indexes.get(rootType);
+        if (index != null) {
+            return index;
+        }
+        return indexes.computeIfAbsent(rootType, root -> newIndex(root, List.of()));
     }
 
-    private String cacheKey(Class<?> rootType, String type, String subject) {
-        return String.join(DELIMITER, rootType.getName(), type, subject);
+    private DispatchIndex<CloudEventDeserializer<? extends BaseEvent>, CloudEvent<JsonObject>> newIndex(
+            Class<?> rootType,
+            Collection<String> ceTypes
+    ) {
+        return new DispatchIndex<>(
+                deserializers.stream()
+                        .filter(deserializer -> rootType.isAssignableFrom(deserializer.eventClass()))
+                        .toList(),
+                CloudEventDeserializer::supports,
+                CloudEvent::subject,
+                ceTypes,
+                maxTypes,
+                maxSubjects
+        );
     }
 }
-
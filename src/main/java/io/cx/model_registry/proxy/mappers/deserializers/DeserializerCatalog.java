@@ -0,0 +1,153 @@
+package io.cx.model_registry.proxy.mappers.deserializers;
+
+import io.cx.platform.events.artifacts.commands.ArtifactEventsCommand;
+import io.cx.platform.events.models.commands.ModelEventsCommand;
+import io.cx.platform.events.modelversions.commands.ModelVersionEventsCommand;
+import io.cx.platform.events.serde.CloudEventDeserializer;
+import io.cx.platform.events.serde.ExtensionDeserializer;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Каталог десериализаторов команд, разрешаемый один раз при инициализации класса.
+ * <p>
+ * Для каждого sealed-корня обходятся permitted subclasses и ищется класс
+ * {@code <package>.<Simple>Deserializer} или {@code <package>.<Simple>CommandDeserializer}
+ * с конструктором от {@link ExtensionDeserializer}.
+ * </p>
+ * <p>
+ * Для native-сборки корни команд и классы десериализаторов регистрируются для reflection через
+ * {@link RegisterForReflection}: для запросов ({@code *Query}) указаны оба варианта имени, которые
+ * проверяет каталог. Команда без зарегистрированного десериализатора видна в тесте каталога
+ * и при старте ({@code proxy.events.deserializers.fail-on-missing}).
+ * </p>
+ */
+@RegisterForReflection(
+        targets = {ModelEventsCommand.class, ModelVersionEventsCommand.class, ArtifactEventsCommand.class},
+        classNames = {
+                DeserializerCatalog.MODEL_PACKAGE + ".CreateModelCommandDeserializer",
+                DeserializerCatalog.MODEL_PACKAGE + ".GetModelQueryDeserializer",
+                DeserializerCatalog.MODEL_PACKAGE + ".GetModelQueryCommandDeserializer",
+                DeserializerCatalog.MODEL_PACKAGE + ".ListModelsQueryDeserializer",
+                DeserializerCatalog.MODEL_PACKAGE + ".ListModelsQueryCommandDeserializer",
+                DeserializerCatalog.MODEL_PACKAGE + ".UpdateModelCommandDeserializer",
+                DeserializerCatalog.MODEL_VERSION_PACKAGE + ".CreateModelVersionCommandDeserializer",
+                DeserializerCatalog.MODEL_VERSION_PACKAGE + ".GetModelVersionQueryDeserializer",
+                DeserializerCatalog.MODEL_VERSION_PACKAGE + ".GetModelVersionQueryCommandDeserializer",
+                DeserializerCatalog.MODEL_VERSION_PACKAGE + ".ListModelVersionsQueryDeserializer",
+                DeserializerCatalog.MODEL_VERSION_PACKAGE + ".ListModelVersionsQueryCommandDeserializer",
+                DeserializerCatalog.MODEL_VERSION_PACKAGE + ".UpdateModelVersionCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".CreateArtifactCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".CreateModelArtifactCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".CreateModelVersionArtifactCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".FindArtifactQueryDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".FindArtifactQueryCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".FindModelArtifactQueryDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".FindModelArtifactQueryCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".GetArtifactQueryDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".GetArtifactQueryCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".GetModelArtifactQueryDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".GetModelArtifactQueryCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".ListArtifactsQueryDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".ListArtifactsQueryCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".ListExperimentRunArtifactsQueryDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".ListExperimentRunArtifactsQueryCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".ListModelArtifactsQueryDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".ListModelArtifactsQueryCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".ListModelVersionArtifactsQueryDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".ListModelVersionArtifactsQueryCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".UpdateArtifactCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".UpdateModelArtifactCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".UpdateModelVersionArtifactCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".UpsertExperimentRunArtifactCommandDeserializer",
+                DeserializerCatalog.ARTIFACT_PACKAGE + ".UpsertModelVersionArtifactCommandDeserializer"
+        }
+)
+final class DeserializerCatalog {
+
+    static final String MODEL_PACKAGE = "io.cx.platform.events.serde.model.commands";
+    static final String MODEL_VERSION_PACKAGE = "io.cx.platform.events.serde.modelversions.commands";
+    static final String ARTIFACT_PACKAGE = "io.cx.platform.events.serde.artifacts.commands";
+
+    private static final String DESERIALIZER_SUFFIX = "Deserializer";
+
+    private static final Map<Class<?>, Resolution> RESOLUTIONS = Map.of(
+            ModelEventsCommand.class,
+            resolve(ModelEventsCommand.class, MODEL_PACKAGE),
+            ModelVersionEventsCommand.class,
+            resolve(ModelVersionEventsCommand.class, MODEL_VERSION_PACKAGE),
+            ArtifactEventsCommand.class,
+            resolve(ArtifactEventsCommand.class, ARTIFACT_PACKAGE)
+    );
+
+    private DeserializerCatalog() {
+    }
+
+    /**
+     * Результат разрешения для корня.
+     *
+     * @param constructors конструкторы найденных десериализаторов
+     * @param missing      команды, для которых десериализатор не найден
+     */
+    record Resolution(List<Constructor<?>> constructors, List<String> missing) {
+    }
+
+    static Resolution forRoot(Class<?> sealedRoot) {
+        Resolution resolution = RESOLUTIONS.get(sealedRoot);
+        if (resolution == null) {
+            throw new IllegalArgumentException("Sealed root is not registered in catalog: " + sealedRoot.getName());
+        }
+        return resolution;
+    }
+
+    static Map<Class<?>, Resolution> all() {
+        return RESOLUTIONS;
+    }
+
+    private static Resolution resolve(Class<?> sealedRoot, String deserializerPackage) {
+        Class<?>[] permitted = sealedRoot.getPermittedSubclasses();
+        if (permitted == null) {
+            throw new IllegalStateException(sealedRoot.getName() + " is not a sealed type");
+        }
+
+        List<Constructor<?>> constructors = new ArrayList<>(permitted.length);
+        List<String> missing = new ArrayList<>();
+        for (Class<?> command : permitted) {
+            Constructor<?> constructor = findConstructor(deserializerPackage, command.getSimpleName());
+            if (constructor != null) {
+                constructors.add(constructor);
+            } else {
+                missing.add(command.getName());
+            }
+        }
+        return new Resolution(List.copyOf(constructors), List.copyOf(missing));
+    }
+
+    private static Constructor<?> findConstructor(String deserializerPackage, String simpleName) {
+        ClassLoader loader = DeserializerCatalog.class.getClassLoader();
+        for (String className : List.of(
+                deserializerPackage + "." + simpleName + DESERIALIZER_SUFFIX,
+                deserializerPackage + "." + simpleName + "Command" + DESERIALIZER_SUFFIX)) {
+            Class<?> candidate;
+            try {
+                candidate = Class.forName(className, false, loader);
+            } catch (ClassNotFoundException e) {
+                continue;
+            }
+            if (!CloudEventDeserializer.class.isAssignableFrom(candidate)) {
+                throw new IllegalStateException("Class " + className + " is not a CloudEventDeserializer");
+            }
+            try {
+                return candidate.getConstructor(ExtensionDeserializer.class);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(
+                        "Deserializer " + className + " has no constructor accepting ExtensionDeserializer", e);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,112 @@
+package io.cx.model_registry.proxy.mappers.deserializers;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Индекс выбора обработчика по типу события (ce-type) и subject.
+ * <p>
+ * Все команды одного корня приходят с одним ce-type (trigger функции), поэтому тип сам по себе
+ * кандидатов не сужает: обработчик выбирается по subject. Таблицы для известных типов создаются
+ * при старте; попадание — два поиска в картах без вызовов {@code supports()} и без аллокаций.
+ * При промахе кандидаты перебираются в порядке списка, первый подошедший запоминается.
+ * </p>
+ * <p>
+ * Таблица subject каждого типа ограничена {@code maxKeysPerType} записями (Caffeine, вытеснение
+ * редко используемых), число типов — {@code maxTypes}, поэтому память не растёт от числа различных
+ * сущностей. События, для которых обработчик не найден, не запоминаются.
+ * </p>
+ *
+ * @param <D> тип обработчика (десериализатора)
+ * @param <E> тип события
+ */
+final class DispatchIndex<D, E> {
+
+    private static final String NO_KEY = "";
+
+    private final List<D> candidates;
+    private final BiPredicate<D, E> supports;
+    private final Function<E, String> discriminator;
+    private final int maxTypes;
+    private final long maxKeysPerType;
+    private final Map<String, Cache<String, Slot>> byType = new ConcurrentHashMap<>();
+
+    DispatchIndex(
+            List<D> candidates,
+            BiPredicate<D, E> supports,
+            Function<E, String> discriminator,
+            Collection<String> knownTypes,
+            int maxTypes,
+            long maxKeysPerType
+    ) {
+        this.candidates = List.copyOf(candidates);
+        this.supports = supports;
+        this.discriminator = discriminator;
+        this.maxTypes = maxTypes;
+        this.maxKeysPerType = maxKeysPerType;
+        knownTypes.forEach(type -> byType.put(type, newTable()));
+    }
+
+    D resolve(String type, E event) {
+        String key = discriminator.apply(event);
+        if (key == null) {
+            key = NO_KEY;
+        }
+        Cache<String, Slot> table = type != null ? byType.get(type) : null;
+        if (table != null) {
+            Slot slot = table.getIfPresent(key);
+            if (slot != null) {
+                return candidates.get(slot.index());
+            }
+        }
+
+        int found = scan(event);
+        // Запоминаются только найденные обработчики: мусорные типы и subject не занимают индекс.
+        if (found >= 0 && type != null) {
+            if (table == null && byType.size() < maxTypes) {
+                table = byType.computeIfAbsent(type, ignored -> newTable());
+            }
+            if (table != null) {
+                table.put(key, new Slot(found));
+            }
+        }
+        return found >= 0 ? candidates.get(found) : null;
+    }
+
+    int size() {
+        return byType.size();
+    }
+
+    long keys() {
+        return byType.values().stream()
+                .peek(Cache::cleanUp)
+                .mapToLong(Cache::estimatedSize)
+                .sum();
+    }
+
+    private int scan(E event) {
+        for (int i = 0; i < candidates.size(); i++) {
+            if (supports.test(candidates.get(i), event)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Cache<String, Slot> newTable() {
+        return Caffeine.newBuilder()
+                .maximumSize(maxKeysPerType)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    private record Slot(int index) {
+    }
+}
@@ -1,8 +1,12 @@
 package io.cx.model_registry.proxy.mappers.deserializers;
 
+import io.cx.model_registry.proxy.Const.CloudEventTypes;
 import io.cx.platform.events.models.commands.ModelEventsCommand;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.Collection;
+import java.util.List;
+
 @ApplicationScoped
 public class ModelEventsCommandDeserializerProvider extends AbstractSealedCommandDeserializerProvider {
 
@@ -12,8 +16,7 @@ public class ModelEventsCommandDeserializerProvider extends AbstractSealedComman
     }
 
     @Override
-    protected String deserializerPackage() {
-        return "io.cx.platform.events.serde.model.commands";
+    public Collection<String> ceTypes() {
+        return List.of(CloudEventTypes.MODEL_COMMAND);
     }
 }
-
@@ -0,0 +1,61 @@
+package io.cx.model_registry.proxy.resource;
+
+import io.cx.model_registry.proxy.mappers.CloudEventBinaryDecoder;
+import io.cx.model_registry.proxy.service.dispatch.CommandDispatcher;
+import io.cx.model_registry.proxy.service.dispatch.CommandEnvelope;
+import io.cx.model_registry.proxy.service.dispatch.CommandStream;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Приём команд в binary mode CloudEvents.
+ * <p>
+ * Альтернатива функциям {@link ModelRegistryEventFunctions}: Knative Trigger направляется на
+ * соответствующий путь вместо корня Funqy, и команда проходит тот же {@link CommandDispatcher},
+ * что и команды из Kafka. Отличается только транспорт: тело по-прежнему разбирается в
+ * {@code JsonObject}, который затем читает десериализатор platform-events.
+ * </p>
+ */
+@Slf4j
+@Path("/events")
+@Consumes(MediaType.WILDCARD)
+public class CloudEventIngressResource {
+
+    @Inject
+    CommandDispatcher dispatcher;
+
+    @POST
+    @Path("/model-commands")
+    public Uni<Void> handleModelCommand(@Context HttpHeaders headers, byte[] body) {
+        return dispatcher.process(envelope(CommandStream.MODEL, headers, body));
+    }
+
+    @POST
+    @Path("/model-version-commands")
+    public Uni<Void> handleModelVersionCommand(@Context HttpHeaders headers, byte[] body) {
+        return dispatcher.process(envelope(CommandStream.MODEL_VERSION, headers, body));
+    }
+
+    @POST
+    @Path("/artifact-commands")
+    public Uni<Void> handleArtifactCommand(@Context HttpHeaders headers, byte[] body) {
+        return dispatcher.process(envelope(CommandStream.ARTIFACT, headers, body));
+    }
+
+    private static CommandEnvelope envelope(CommandStream stream, HttpHeaders headers, byte[] body) {
+        return new CommandEnvelope(
+                stream,
+                CloudEventBinaryDecoder.attributes(headers),
+                headers.getHeaderString(HttpHeaders.CONTENT_TYPE),
+                body == null ? new byte[0] : body,
+                1
+        );
+    }
+}
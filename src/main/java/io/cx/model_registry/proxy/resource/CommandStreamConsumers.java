@@ -0,0 +1,142 @@
+package io.cx.model_registry.proxy.resource;
+
+import io.cx.model_registry.proxy.service.dispatch.CommandDispatcher;
+import io.cx.model_registry.proxy.service.dispatch.CommandEnvelope;
+import io.cx.model_registry.proxy.service.dispatch.CommandStream;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.KafkaRecord;
+import io.smallrye.reactive.messaging.kafka.KafkaRecordBatch;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static io.cx.model_registry.proxy.service.failures.CommandFailureHandler.CE_PREFIX;
+import static io.cx.model_registry.proxy.service.failures.CommandFailureHandler.CONTENT_TYPE;
+import static io.cx.model_registry.proxy.service.failures.CommandFailureHandler.RETRY_ATTEMPT;
+import static io.cx.model_registry.proxy.service.failures.CommandFailureHandler.RETRY_DUE;
+import static io.cx.model_registry.proxy.service.failures.CommandFailureHandler.STREAM;
+
+/**
+ * Приём команд напрямую из Kafka пачками, альтернатива доставке Knative по одному HTTP-запросу.
+ * <p>
+ * Записи одного poll обрабатываются с параллелизмом не выше {@code proxy.events.consumer.concurrency};
+ * пачка подтверждается (и её смещения коммитятся) после того, как все ответы опубликованы.
+ * Порядок команд одного агрегата сохраняется {@code CommandSequencer}, поскольку записи
+ * передаются сервисам в порядке их следования в пачке.
+ * Каналы {@code *-commands-in} по умолчанию выключены ({@code enabled: false}).
+ * </p>
+ * <p>
+ * Канал {@code command-retry-in} читает retry-топик: каждая запись выполняется не раньше времени
+ * из заголовка {@code x-retry-due}. Если ошибку не удалось направить ни в retry-топик, ни в DLQ,
+ * пачка отклоняется и смещения не коммитятся. Запись может ждать до {@code proxy.events.retry.max-delay},
+ * поэтому {@code throttled.unprocessed-record-max-age.ms} канала должен быть заметно больше этой задержки.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+public class CommandStreamConsumers {
+
+    @Inject
+    CommandDispatcher dispatcher;
+
+    @ConfigProperty(name = "proxy.events.consumer.concurrency", defaultValue = "16")
+    int concurrency;
+
+    @Incoming("model-commands-in")
+    public Uni<Void> consumeModelCommands(KafkaRecordBatch<String, byte[]> batch) {
+        return consume(batch, record -> envelope(record, CommandStream.MODEL, 1));
+    }
+
+    @Incoming("model-version-commands-in")
+    public Uni<Void> consumeModelVersionCommands(KafkaRecordBatch<String, byte[]> batch) {
+        return consume(batch, record -> envelope(record, CommandStream.MODEL_VERSION, 1));
+    }
+
+    @Incoming("artifact-commands-in")
+    public Uni<Void> consumeArtifactCommands(KafkaRecordBatch<String, byte[]> batch) {
+        return consume(batch, record -> envelope(record, CommandStream.ARTIFACT, 1));
+    }
+
+    @Incoming("command-retry-in")
+    public Uni<Void> consumeRetries(KafkaRecordBatch<String, byte[]> batch) {
+        return Multi.createFrom().iterable(batch.getRecords())
+                .onItem().transformToUni(record -> {
+                    CommandEnvelope envelope;
+                    try {
+                        envelope = envelope(record,
+                                CommandStream.fromTag(header(record, STREAM)),
+                                Integer.parseInt(header(record, RETRY_ATTEMPT)));
+                    } catch (IllegalArgumentException e) {
+                        log.error("Skipping malformed retry record {}-{}@{}: {}",
+                                record.getTopic(), record.getPartition(), record.getOffset(), e.getMessage());
+                        return Uni.createFrom().voidItem();
+                    }
+                    return delayUntilDue(record).chain(() -> dispatcher.process(envelope));
+                })
+                .merge(concurrency)
+                .collect().last()
+                .replaceWithVoid()
+                .onItemOrFailure().transformToUni((ignored, failure) -> complete(batch, failure));
+    }
+
+    private Uni<Void> consume(
+            KafkaRecordBatch<String, byte[]> batch,
+            Function<KafkaRecord<String, byte[]>, CommandEnvelope> envelopes
+    ) {
+        return Multi.createFrom().iterable(batch.getRecords())
+                .onItem().transformToUni(record -> dispatcher.process(envelopes.apply(record)))
+                .merge(concurrency)
+                .collect().last()
+                .replaceWithVoid()
+                .onItemOrFailure().transformToUni((ignored, failure) -> complete(batch, failure));
+    }
+
+    private static Uni<Void> complete(KafkaRecordBatch<String, byte[]> batch, Throwable failure) {
+        if (failure == null) {
+            return Uni.createFrom().completionStage(batch.ack());
+        }
+        log.error("Command batch of {} records rejected: {}", batch.getRecords().size(), failure.getMessage());
+        return Uni.createFrom().completionStage(batch.nack(failure));
+    }
+
+    private static Uni<Void> delayUntilDue(KafkaRecord<String, byte[]> record) {
+        String due = header(record, RETRY_DUE);
+        long remaining;
+        try {
+            remaining = due == null ? 0 : Long.parseLong(due) - System.currentTimeMillis();
+        } catch (NumberFormatException e) {
+            remaining = 0;
+        }
+        if (remaining <= 0) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().voidItem().onItem().delayIt().by(Duration.ofMillis(remaining));
+    }
+
+    private static CommandEnvelope envelope(KafkaRecord<String, byte[]> record, CommandStream stream, int attempt) {
+        Map<String, String> attributes = new HashMap<>();
+        for (Header header : record.getHeaders()) {
+            if (header.key().startsWith(CE_PREFIX) && header.value() != null) {
+                attributes.put(header.key().substring(CE_PREFIX.length()),
+                        new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        byte[] body = record.getPayload() == null ? new byte[0] : record.getPayload();
+        return new CommandEnvelope(stream, attributes, header(record, CONTENT_TYPE), body, attempt);
+    }
+
+    private static String header(KafkaRecord<String, byte[]> record, String name) {
+        Header header = record.getHeaders().lastHeader(name);
+        return header == null || header.value() == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -1,11 +1,15 @@
 package io.cx.model_registry.proxy.resource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cx.model_registry.proxy.Const.CloudEventTypes;
 import io.cx.model_registry.proxy.mappers.CloudEventToCommandMapper;
 import io.cx.model_registry.proxy.service.ArtifactCommandService;
 import io.cx.model_registry.proxy.service.ModelCommandService;
 import io.cx.model_registry.proxy.service.ModelVersionCommandService;
 import io.cx.model_registry.proxy.service.ModelRegistryOrchestrationService;
+import io.cx.model_registry.proxy.service.dispatch.CommandEnvelope;
+import io.cx.model_registry.proxy.service.dispatch.CommandStream;
+import io.cx.model_registry.proxy.service.failures.CommandFailureHandler;
 import io.quarkus.funqy.Funq;
 import io.quarkus.funqy.knative.events.CloudEvent;
 import io.quarkus.funqy.knative.events.CloudEventMapping;
@@ -17,7 +21,11 @@ import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static java.util.Optional.ofNullable;
 
@@ -45,36 +53,28 @@ public class ModelRegistryEventFunctions {
     @Inject
     ArtifactCommandService artifactCommandService;
 
+    @Inject
+    CommandFailureHandler failureHandler;
+
     @Funq("handle-cloud-event-model-registry-command")
-    @CloudEventMapping(trigger = "model.events.command")
+    @CloudEventMapping(trigger = CloudEventTypes.MODEL_COMMAND)
     public Uni<Void> handleModelRegistryCommand(CloudEvent<JsonObject> event) {
-        return ofNullable(event)
-                .map(mapper::toModelEventCommand)
-                .map(commandService::handle)
-                .map(v -> v.onFailure().recoverWithNull())
-                .orElseGet(Uni.createFrom()::voidItem);
+        return handle(event, CommandStream.MODEL,
+                () -> ofNullable(mapper.toModelEventCommand(event)).map(commandService::handle));
     }
 
     @Funq("handle-cloud-event-model-version-registry-command")
-    @CloudEventMapping(trigger = "model.version.events.command")
+    @CloudEventMapping(trigger = CloudEventTypes.MODEL_VERSION_COMMAND)
     public Uni<Void> handleModelVersionRegistryCommand(CloudEvent<JsonObject> event) {
-        log.info("$ handleModelVersionRegistryCommand() called with: event = [{}]", event);
-        return ofNullable(event)
-                .map(mapper::toModelVersionEventCommand)
-                .map(modelVersionCommandService::handle)
-                .map(v -> v.onFailure().recoverWithNull())
-                .orElseGet(Uni.createFrom()::voidItem);
+        return handle(event, CommandStream.MODEL_VERSION,
+                () -> ofNullable(mapper.toModelVersionEventCommand(event)).map(modelVersionCommandService::handle));
     }
 
     @Funq("handle-cloud-event-artifact-registry-command")
-    @CloudEventMapping(trigger = "artifact.events.command")
+    @CloudEventMapping(trigger = CloudEventTypes.ARTIFACT_COMMAND)
     public Uni<Void> handleArtifactRegistryCommand(CloudEvent<JsonObject> event) {
-        log.info("$ handleArtifactRegistryCommand() called with: event = [{}]", event);
-        return ofNullable(event)
-                .map(mapper::toArtifactEventCommand)
-                .map(artifactCommandService::handle)
-                .map(v -> v.onFailure().recoverWithNull())
-                .orElseGet(Uni.createFrom()::voidItem);
+        return handle(event, CommandStream.ARTIFACT,
+                () -> ofNullable(mapper.toArtifactEventCommand(event)).map(artifactCommandService::handle));
     }
 
 //    @Funq("model-with-version-workflow")
@@ -109,6 +109,52 @@ public class ModelRegistryEventFunctions {
 //        return orchestrationService.deployModelVersionIdempotent(request);
 //    }
 
+    /**
+     * Разбор события выполняется внутри {@link Uni}, чтобы ошибки десериализации тоже проходили
+     * через {@link #withFailureHandling} и попадали в retry-топик или DLQ.
+     */
+    private Uni<Void> handle(
+            CloudEvent<JsonObject> event,
+            CommandStream stream,
+            Supplier<Optional<Uni<Void>>> handling
+    ) {
+        if (event == null) {
+            return Uni.createFrom().voidItem();
+        }
+        return withFailureHandling(
+                Uni.createFrom().deferred(() -> handling.get().orElseGet(Uni.createFrom()::voidItem)),
+                event,
+                stream);
+    }
+
+    private Uni<Void> withFailureHandling(Uni<Void> handling, CloudEvent<JsonObject> event, CommandStream stream) {
+        return handling
+                .onItem().invoke(() -> failureHandler.onSuccess(stream))
+                .onFailure().recoverWithUni(failure -> failureHandler.onFailure(envelope(event, stream), failure));
+    }
+
+    private static CommandEnvelope envelope(CloudEvent<JsonObject> event, CommandStream stream) {
+        Map<String, String> attributes = new HashMap<>();
+        if (event.extensions() != null) {
+            attributes.putAll(event.extensions());
+        }
+        putIfPresent(attributes, "id", event.id());
+        putIfPresent(attributes, "specversion", event.specVersion());
+        putIfPresent(attributes, "source", event.source());
+        putIfPresent(attributes, "type", event.type());
+        putIfPresent(attributes, "subject", event.subject());
+        putIfPresent(attributes, "time", event.time() == null ? null : event.time().toString());
+        putIfPresent(attributes, "dataschema", event.dataSchema());
+        byte[] body = event.data() == null ? new byte[0] : event.data().toBuffer().getBytes();
+        return new CommandEnvelope(stream, attributes, event.dataContentType(), body, 1);
+    }
+
+    private static void putIfPresent(Map<String, String> attributes, String name, String value) {
+        if (value != null) {
+            attributes.put(name, value);
+        }
+    }
+
     private <T> T requireValidData(CloudEvent<JsonObject> event, Class<T> type, String nullMessage) {
         if (event == null || event.data() == null) {
             throw new ConstraintViolationException(nullMessage, Set.of());
@@ -1,5 +1,7 @@
 package io.cx.model_registry.proxy.resource;
 
+import io.cx.model_registry.proxy.dto.batch.BatchGetRequest;
+import io.cx.model_registry.proxy.dto.batch.BatchGetResult;
 import io.cx.model_registry.proxy.dto.metadata.MetadataValue;
 import io.cx.model_registry.proxy.dto.versions.ModelVersion;
 import io.cx.model_registry.proxy.dto.versions.ModelVersionCreate;
@@ -7,6 +9,7 @@ import io.cx.model_registry.proxy.dto.versions.ModelVersionList;
 import io.cx.model_registry.proxy.dto.versions.ModelVersionUpdate;
 import io.cx.model_registry.proxy.service.ModelService;
 import io.cx.model_registry.proxy.service.VersionsService;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -15,6 +18,8 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import lombok.extern.slf4j.Slf4j;
+import org.jboss.resteasy.reactive.RestMediaType;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
 @Slf4j
 @Path("/api/v1/model-versions")
@@ -51,6 +56,14 @@ public class ModelVersionResource {
         return versionsService.getModelVersionById(modelVersionId);
     }
 
+    @POST
+    @Path("/batch")
+    public Uni<BatchGetResult<ModelVersion>> getModelVersions(
+            @Valid @NotNull(message = "Request body must be provided") BatchGetRequest request
+    ) {
+        return versionsService.getModelVersionsByIds(request.ids());
+    }
+
     @GET
     public Uni<ModelVersionList> listModelVersions(
             @QueryParam("filter") String filter,
@@ -64,6 +77,14 @@ public class ModelVersionResource {
         );
     }
 
+    @GET
+    @Path("/stream")
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    public Multi<ModelVersion> streamModelVersions(@QueryParam("filter") String filter) {
+        return versionsService.streamModelVersions(filter);
+    }
+
     @PATCH
     @Path("/{modelVersionId}")
     public Uni<ModelVersion> updateModelVersion(
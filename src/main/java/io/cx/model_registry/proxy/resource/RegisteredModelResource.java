@@ -1,10 +1,13 @@
 package io.cx.model_registry.proxy.resource;
 
+import io.cx.model_registry.proxy.dto.batch.BatchGetRequest;
+import io.cx.model_registry.proxy.dto.batch.BatchGetResult;
 import io.cx.model_registry.proxy.dto.models.RegisteredModel;
 import io.cx.model_registry.proxy.dto.models.RegisteredModelCreate;
 import io.cx.model_registry.proxy.dto.models.RegisteredModelList;
 import io.cx.model_registry.proxy.dto.models.RegisteredModelUpdate;
 import io.cx.model_registry.proxy.service.ModelService;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -13,6 +16,8 @@ import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import lombok.extern.slf4j.Slf4j;
+import org.jboss.resteasy.reactive.RestMediaType;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
 @Slf4j
 @Path("/api/v1/models")
@@ -51,6 +56,14 @@ public class RegisteredModelResource {
         return modelService.getModelById(modelId);
     }
 
+    @POST
+    @Path("/batch")
+    public Uni<BatchGetResult<RegisteredModel>> getModels(
+            @Valid @NotNull(message = "Request body must be provided") BatchGetRequest request
+    ) {
+        return modelService.getModelsByIds(request.ids());
+    }
+
     @GET
     public Uni<RegisteredModelList> listModels(
             @QueryParam("filter") String filter,
@@ -62,6 +75,14 @@ public class RegisteredModelResource {
         return modelService.listModels(filter, pageSize, orderBy, sortOrder, nextPageToken);
     }
 
+    @GET
+    @Path("/stream")
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    public Multi<RegisteredModel> streamModels(@QueryParam("filter") String filter) {
+        return modelService.streamModels(filter);
+    }
+
     @PATCH
     @Path("/{modelId}")
     public Uni<RegisteredModel> updateModel(
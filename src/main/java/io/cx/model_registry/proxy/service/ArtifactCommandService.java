@@ -4,10 +4,11 @@ import io.cx.model_registry.proxy.client.EventProducer;
 import io.cx.model_registry.proxy.dto.artifacts.Artifact;
 import io.cx.model_registry.proxy.dto.artifacts.ArtifactList;
 import io.cx.model_registry.proxy.mappers.ModelRegistryMapper;
+import io.cx.model_registry.proxy.service.events.WindowedPublisher;
+import io.cx.model_registry.proxy.service.ordering.CommandSequencer;
 import io.cx.platform.events.artifacts.ArtifactEvents;
 import io.cx.platform.events.artifacts.ArtifactPayload;
 import io.cx.platform.events.artifacts.commands.*;
-import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -37,8 +38,14 @@ public class ArtifactCommandService {
     @Inject
     EventProducer eventProducer;
 
+    @Inject
+    WindowedPublisher windowedPublisher;
+
+    @Inject
+    CommandSequencer sequencer;
+
     public Uni<Void> handle(ArtifactEventsCommand command) {
-        return dispatchNullable(command, cmd -> switch (cmd) {
+        return sequencer.execute("artifact", aggregateId(command), () -> dispatchNullable(command, cmd -> switch (cmd) {
             case ArtifactEventsCommand.CreateArtifactCommand create -> handleCreate(create);
             case ArtifactEventsCommand.UpdateArtifactCommand update -> handleUpdate(update);
             case ArtifactEventsCommand.GetArtifactQuery get -> handleGet(get);
@@ -56,7 +63,7 @@ public class ArtifactCommandService {
             case ArtifactEventsCommand.ListModelVersionArtifactsQuery listModelVersion -> handleListModelVersionArtifacts(listModelVersion);
             case ArtifactEventsCommand.ListExperimentRunArtifactsQuery listExperimentRun -> handleListExperimentRunArtifacts(listExperimentRun);
             default -> Uni.createFrom().voidItem();
-        });
+        }));
     }
 
     private Uni<Void> handleCreate(ArtifactEventsCommand.CreateArtifactCommand command) {
@@ -226,16 +233,7 @@ public class ArtifactCommandService {
             List<Artifact> artifacts,
             Function<ArtifactPayload, ArtifactEvents.ArtifactResponse> responseFactory
     ) {
-        if (artifacts == null || artifacts.isEmpty()) {
-            return Uni.createFrom().voidItem();
-        }
-
-        return Multi.createFrom().iterable(artifacts)
-                .onItem()
-                .transformToUniAndConcatenate(artifact -> sendResponse(artifact, responseFactory))
-                .collect()
-                .last()
-                .replaceWithVoid();
+        return windowedPublisher.publishAll(artifacts, artifact -> sendResponse(artifact, responseFactory));
     }
 
     private Uni<Void> sendResponse(
@@ -316,6 +314,19 @@ public class ArtifactCommandService {
         return value != null && !value.isBlank();
     }
 
+    private static String aggregateId(ArtifactEventsCommand command) {
+        return switch (command) {
+            case ArtifactEventsCommand.UpdateArtifactCommand update when update.payload() != null -> update.payload().id();
+            case ArtifactEventsCommand.GetArtifactQuery get when get.payload() != null -> get.payload().id();
+            case ArtifactEventsCommand.UpdateModelArtifactCommand update when update.payload() != null ->
+                    update.payload().id();
+            case ArtifactEventsCommand.GetModelArtifactQuery get when get.payload() != null -> get.payload().id();
+            case ArtifactEventsCommand.UpdateModelVersionArtifactCommand update when update.payload() != null ->
+                    update.payload().id();
+            case null, default -> null;
+        };
+    }
+
     private <T> Uni<Void> dispatchNullable(T command, Function<T, Uni<Void>> dispatcher) {
         return ofNullable(command)
                 .map(dispatcher)
@@ -1,9 +1,9 @@
 package io.cx.model_registry.proxy.service;
 
 import io.cx.model_registry.proxy.client.ArtifactClient;
-import io.cx.model_registry.proxy.client.SearchClient;
 import io.cx.model_registry.proxy.dto.artifacts.Artifact;
 import io.cx.model_registry.proxy.dto.artifacts.ArtifactList;
+import io.cx.model_registry.proxy.service.cache.RegistryEntityCaches;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -18,25 +18,45 @@ public class ArtifactService {
     ArtifactClient artifactClient;
 
     @Inject
-    @RestClient
-    SearchClient searchClient;
+    SearchService searchService;
+
+    @Inject
+    RegistryEntityCaches caches;
 
     public Uni<Artifact> createArtifact(Artifact artifact) {
         return artifactClient.createArtifact(artifact)
-                .map(response -> response.readEntity(Artifact.class));
+                .map(response -> response.readEntity(Artifact.class))
+                .invoke(created -> caches.artifacts().put(created.id(), created))
+                .invoke(created -> searchService.evict(created, null));
     }
 
     public Uni<Artifact> updateArtifact(String artifactId, Artifact artifact) {
-        return artifactClient.updateArtifact(artifactId, artifact);
+        return artifactClient.updateArtifact(artifactId, artifact)
+                .invoke(updated -> caches.artifacts().put(artifactId, updated))
+                .invoke(updated -> searchService.evict(updated, null))
+                .onFailure().invoke(() -> caches.artifacts().invalidate(artifactId));
     }
 
     public Uni<Artifact> getArtifactById(String artifactId) {
+        return caches.artifacts().getOrLoad(artifactId, () -> loadArtifact(artifactId), this::isArtifactModified);
+    }
+
+    private Uni<Artifact> loadArtifact(String artifactId) {
         return artifactClient.getArtifact(artifactId)
                 .onItem().ifNull().failWith(NotFoundException::new);
     }
 
+    private Uni<Boolean> isArtifactModified(String artifactId, Artifact cached) {
+        String filter = RegistryEntityCaches.revalidationFilter(artifactId, cached);
+        if (filter == null) {
+            return Uni.createFrom().item(true);
+        }
+        return artifactClient.getArtifacts(filter, null, 1, "ID", "ASC", null)
+                .map(RegistryEntityCaches::isModified);
+    }
+
     public Uni<Artifact> findArtifact(String name, String externalId, String parentResourceId) {
-        return searchClient.findArtifact(name, externalId, parentResourceId)
+        return searchService.findArtifact(name, externalId, parentResourceId)
                 .onItem().ifNull().failWith(NotFoundException::new);
     }
 
@@ -6,12 +6,12 @@ import io.cx.model_registry.proxy.dto.artifacts.ModelArtifactCreate;
 import io.cx.model_registry.proxy.dto.artifacts.ModelArtifactList;
 import io.cx.model_registry.proxy.dto.artifacts.ModelArtifactUpdate;
 import io.cx.model_registry.proxy.mappers.ModelRegistryMapper;
+import io.cx.model_registry.proxy.service.events.WindowedPublisher;
 import io.cx.platform.events.artifacts.ArtifactEvents;
 import io.cx.platform.events.artifacts.commands.ArtifactEventsCommand;
 import io.cx.platform.events.artifacts.commands.FindModelArtifactQueryPayload;
 import io.cx.platform.events.artifacts.commands.GetModelArtifactQueryPayload;
 import io.cx.platform.events.artifacts.commands.ListModelArtifactsQueryPayload;
-import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -35,6 +35,9 @@ public class ModelArtifactCommandService {
     @Inject
     EventProducer eventProducer;
 
+    @Inject
+    WindowedPublisher windowedPublisher;
+
     Uni<Void> handleCreate(ArtifactEventsCommand.CreateModelArtifactCommand command) {
         ModelArtifactCreate request = mapper.toModelArtifactCreate(command.payload());
         return modelArtifactService.createModelArtifact(request)
@@ -91,16 +94,8 @@ public class ModelArtifactCommandService {
                 .map(ModelArtifactList::items)
                 .orElseGet(List::of);
 
-        if (values.isEmpty()) {
-            return Uni.createFrom().voidItem();
-        }
-
-        return Multi.createFrom().iterable(values)
-                .onItem()
-                .transformToUniAndConcatenate(modelArtifact -> sendResponse(modelArtifact, value -> toQueryResponse(query, value)))
-                .collect()
-                .last()
-                .replaceWithVoid();
+        return windowedPublisher.publishAll(values,
+                modelArtifact -> sendResponse(modelArtifact, value -> toQueryResponse(query, value)));
     }
 
     private Uni<Void> sendResponse(
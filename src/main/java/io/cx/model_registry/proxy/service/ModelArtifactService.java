@@ -2,7 +2,6 @@ package io.cx.model_registry.proxy.service;
 
 import io.cx.model_registry.proxy.client.ExperimentRunClient;
 import io.cx.model_registry.proxy.client.ModelArtifactClient;
-import io.cx.model_registry.proxy.client.SearchClient;
 import io.cx.model_registry.proxy.client.VersionClient;
 import io.cx.model_registry.proxy.dto.artifacts.Artifact;
 import io.cx.model_registry.proxy.dto.artifacts.ArtifactList;
@@ -10,6 +9,7 @@ import io.cx.model_registry.proxy.dto.artifacts.ModelArtifact;
 import io.cx.model_registry.proxy.dto.artifacts.ModelArtifactCreate;
 import io.cx.model_registry.proxy.dto.artifacts.ModelArtifactList;
 import io.cx.model_registry.proxy.dto.artifacts.ModelArtifactUpdate;
+import io.cx.model_registry.proxy.service.cache.RegistryEntityCaches;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -24,8 +24,10 @@ public class ModelArtifactService {
     ModelArtifactClient modelArtifactClient;
 
     @Inject
-    @RestClient
-    SearchClient searchClient;
+    SearchService searchService;
+
+    @Inject
+    RegistryEntityCaches caches;
 
     @Inject
     @RestClient
@@ -37,11 +39,14 @@ public class ModelArtifactService {
 
     public Uni<ModelArtifact> createModelArtifact(ModelArtifactCreate request) {
         return modelArtifactClient.createModelArtifact(request)
-                .map(response -> response.readEntity(ModelArtifact.class));
+                .map(response -> response.readEntity(ModelArtifact.class))
+                .invoke(created -> searchService.evict(created, null));
     }
 
     public Uni<ModelArtifact> updateModelArtifact(String modelArtifactId, ModelArtifactUpdate request) {
-        return modelArtifactClient.updateModelArtifact(modelArtifactId, request);
+        return modelArtifactClient.updateModelArtifact(modelArtifactId, request)
+                .invoke(updated -> caches.artifacts().invalidate(modelArtifactId))
+                .invoke(updated -> searchService.evict(updated, null));
     }
 
     public Uni<ModelArtifact> getModelArtifactById(String modelArtifactId) {
@@ -50,7 +55,7 @@ public class ModelArtifactService {
     }
 
     public Uni<ModelArtifact> findModelArtifact(String name, String externalId, String parentResourceId) {
-        return searchClient.findModelArtifact(name, externalId, parentResourceId)
+        return searchService.findModelArtifact(name, externalId, parentResourceId)
                 .onItem().ifNull().failWith(NotFoundException::new);
     }
 
@@ -65,7 +70,9 @@ public class ModelArtifactService {
     }
 
     public Uni<Artifact> upsertModelVersionArtifact(String modelVersionId, Artifact artifact) {
-        return versionClient.upsertModelVersionArtifact(modelVersionId, artifact);
+        return versionClient.upsertModelVersionArtifact(modelVersionId, artifact)
+                .invoke(upserted -> caches.artifacts().put(upserted.id(), upserted))
+                .invoke(upserted -> searchService.evict(upserted, modelVersionId));
     }
 
     public Uni<ArtifactList> listModelVersionArtifacts(
@@ -93,7 +100,9 @@ public class ModelArtifactService {
     }
 
     public Uni<Artifact> upsertExperimentRunArtifact(String experimentRunId, Artifact artifact) {
-        return experimentRunClient.upsertExperimentRunArtifact(experimentRunId, artifact);
+        return experimentRunClient.upsertExperimentRunArtifact(experimentRunId, artifact)
+                .invoke(upserted -> caches.artifacts().put(upserted.id(), upserted))
+                .invoke(upserted -> searchService.evict(upserted, experimentRunId));
     }
 
     public Uni<ArtifactList> listExperimentRunArtifacts(
@@ -6,6 +6,7 @@ import io.cx.model_registry.proxy.dto.models.RegisteredModelCreate;
 import io.cx.model_registry.proxy.dto.models.RegisteredModelList;
 import io.cx.model_registry.proxy.dto.models.RegisteredModelUpdate;
 import io.cx.model_registry.proxy.mappers.ModelRegistryMapper;
+import io.cx.model_registry.proxy.service.ordering.CommandSequencer;
 import io.cx.platform.events.models.ModelEvents;
 import io.cx.platform.events.models.ModelInfo;
 import io.cx.platform.events.models.commands.GetModelQueryPayload;
@@ -33,13 +34,16 @@ public class ModelCommandService {
     @Inject
     EventProducer eventProducer;
 
+    @Inject
+    CommandSequencer sequencer;
+
     public Uni<Void> handle(ModelEventsCommand command) {
-        return dispatchNullable(command, cmd -> switch (cmd) {
+        return sequencer.execute("model", aggregateId(command), () -> dispatchNullable(command, cmd -> switch (cmd) {
             case ModelEventsCommand.CreateModelCommand create -> handleCreate(create);
             case ModelEventsCommand.UpdateModelCommand update -> handleUpdate(update);
             case ModelEventsCommand.ListModelsQuery list -> handleList(list);
             case ModelEventsCommand.GetModelQuery get -> handleGet(get);
-        });
+        }));
     }
 
     private Uni<Void> handleCreate(ModelEventsCommand.CreateModelCommand command) {
@@ -92,6 +96,14 @@ public class ModelCommandService {
                 .orElseGet(Uni.createFrom()::voidItem);
     }
 
+    private static String aggregateId(ModelEventsCommand command) {
+        return switch (command) {
+            case ModelEventsCommand.UpdateModelCommand update when update.payload() != null -> update.payload().modelId();
+            case ModelEventsCommand.GetModelQuery get when get.payload() != null -> get.payload().modelId();
+            case null, default -> null;
+        };
+    }
+
     private <T> Uni<Void> dispatchNullable(T command, Function<T, Uni<Void>> dispatcher) {
         return ofNullable(command)
                 .map(dispatcher)
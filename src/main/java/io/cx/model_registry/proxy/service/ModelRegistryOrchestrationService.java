@@ -6,6 +6,7 @@ import io.cx.model_registry.proxy.dto.workflows.DeployModelVersionRequest;
 import io.cx.model_registry.proxy.dto.workflows.DeployModelVersionResult;
 import io.cx.model_registry.proxy.dto.workflows.ModelWithVersionCreateRequest;
 import io.cx.model_registry.proxy.dto.workflows.ModelWithVersionCreateResult;
+import io.cx.model_registry.proxy.service.cache.RegistryEntityCaches;
 import io.cx.model_registry.proxy.service.idempotency.IdempotencyKeyResolver;
 import io.cx.model_registry.proxy.service.idempotency.WorkflowIdempotencyService;
 import io.smallrye.mutiny.Uni;
@@ -38,6 +39,12 @@ public class ModelRegistryOrchestrationService {
     @RestClient
     ServeModelClient serveModelClient;
 
+    @Inject
+    SearchService searchService;
+
+    @Inject
+    RegistryEntityCaches caches;
+
     @Inject
     WorkflowIdempotencyService idempotencyService;
 
@@ -83,9 +90,12 @@ public class ModelRegistryOrchestrationService {
     private Uni<ModelWithVersionCreateResult> createModelWithVersionInternal(ModelWithVersionCreateRequest request) {
         return modelClient.createRegisteredModel(request.model())
                 .map(response -> response.readEntity(RegisteredModel.class))
+                .invoke(model -> caches.modelLists().invalidateAll())
                 .chain(model -> {
                     request.version().registeredModelId(model.id());
                     return versionClient.createModelVersion(request.version())
+                            .invoke(version -> caches.versionLists().invalidateAll())
+                            .invoke(version -> searchService.evict(version))
                             .map(version -> new ModelWithVersionCreateResult(model, version));
                 });
     }
@@ -96,6 +106,7 @@ public class ModelRegistryOrchestrationService {
                     request.inferenceService().servingEnvironmentId(servingEnvironment.id());
 
                     return inferenceServiceClient.createInferenceService(request.inferenceService())
+                            .invoke(inferenceService -> searchService.evict(inferenceService))
                             .chain(inferenceService ->
                                     serveModelClient.createInferenceServiceServe(inferenceService.id(), request.serve())
                                             .map(serveModel -> new DeployModelVersionResult(
@@ -3,17 +3,24 @@ package io.cx.model_registry.proxy.service;
 import io.cx.model_registry.proxy.client.ModelClient;
 import io.cx.model_registry.proxy.client.VersionClient;
 import io.cx.model_registry.proxy.client.SearchClient;
+import io.cx.model_registry.proxy.dto.batch.BatchGetResult;
 import io.cx.model_registry.proxy.dto.metadata.MetadataValue;
 import io.cx.model_registry.proxy.dto.models.*;
+import io.cx.model_registry.proxy.service.batch.BatchGetExecutor;
+import io.cx.model_registry.proxy.service.cache.RegistryEntityCaches;
+import io.cx.model_registry.proxy.service.pagination.Paginator;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.core.Response;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -32,12 +39,26 @@ public class ModelService {
     @RestClient
     SearchClient search;
 
+    @Inject
+    RegistryEntityCaches caches;
+
+    @Inject
+    BatchGetExecutor batchGetExecutor;
+
+    @ConfigProperty(name = "proxy.pagination.page-size", defaultValue = "100")
+    int scanPageSize;
+
+    @ConfigProperty(name = "proxy.pagination.prefetch-pages", defaultValue = "2")
+    int scanPrefetchPages;
+
     /**
      * Создание новой модели
      */
     public Uni<RegisteredModel> createModel(RegisteredModelCreate request) {
         return modelClient.createRegisteredModel(request)
-                .map(response -> response.readEntity(RegisteredModel.class));
+                .map(response -> response.readEntity(RegisteredModel.class))
+                .invoke(model -> caches.models().put(model.id(), model))
+                .invoke(model -> caches.modelLists().invalidateAll());
     }
 
     /**
@@ -60,6 +81,32 @@ public class ModelService {
      * Получение модели по ID
      */
     public Uni<RegisteredModel> getModelById(String modelId) {
+        return caches.models().getOrLoad(modelId, () -> loadModel(modelId), this::isModelModified);
+    }
+
+    /**
+     * Проверка, менялась ли модель после получения кэшированной копии
+     */
+    private Uni<Boolean> isModelModified(String modelId, RegisteredModel cached) {
+        String filter = RegistryEntityCaches.revalidationFilter(modelId, cached);
+        if (filter == null) {
+            return Uni.createFrom().item(true);
+        }
+        return modelClient.getRegisteredModels(filter, 1, "ID", "ASC", null)
+                .map(RegistryEntityCaches::isModified);
+    }
+
+    /**
+     * Пакетное получение моделей по списку ID
+     */
+    public Uni<BatchGetResult<RegisteredModel>> getModelsByIds(List<String> modelIds) {
+        return batchGetExecutor.getAll(modelIds, this::getModelById);
+    }
+
+    /**
+     * Получение модели по ID напрямую из Model Registry, минуя кэш
+     */
+    private Uni<RegisteredModel> loadModel(String modelId) {
         return modelClient.getRegisteredModel(modelId)
                 .onItem().ifNull().failWith(NotFoundException::new);
     }
@@ -75,14 +122,32 @@ public class ModelService {
             String nextPageToken
     ) {
         log.info("Listing models with filter: {}", filterQuery);
-        return modelClient.getRegisteredModels(filterQuery, pageSize, orderBy, sortOrder, nextPageToken);
+        return caches.modelLists().getOrLoad(
+                RegistryEntityCaches.listKey(filterQuery, pageSize, orderBy, sortOrder, nextPageToken),
+                () -> modelClient.getRegisteredModels(filterQuery, pageSize, orderBy, sortOrder, nextPageToken)
+        );
+    }
+
+    /**
+     * Потоковый обход всех моделей по фильтру, страница за страницей по {@code nextPageToken}.
+     * Страницы не кэшируются: полный обход не должен вытеснять короткоживущие страницы списков.
+     */
+    public Multi<RegisteredModel> streamModels(String filterQuery) {
+        log.info("Streaming models with filter: {}", filterQuery);
+        return Paginator.stream(
+                token -> modelClient.getRegisteredModels(filterQuery, scanPageSize, "ID", "ASC", token),
+                scanPrefetchPages
+        );
     }
 
     /**
      * Обновление модели
      */
     public Uni<RegisteredModel> updateModel(String modelId, RegisteredModelUpdate update) {
-        return modelClient.updateRegisteredModel(modelId, update);
+        return modelClient.updateRegisteredModel(modelId, update)
+                .invoke(model -> caches.models().put(modelId, model))
+                .invoke(model -> caches.modelLists().invalidateAll())
+                .onFailure().invoke(() -> caches.models().invalidate(modelId));
     }
 
     /**
@@ -114,7 +179,7 @@ public class ModelService {
             MetadataValue value
     ) {
 
-        return getModelById(modelId)
+        return loadModel(modelId)
                 .map(model -> {
                     Map<String, MetadataValue> customProperties =
                             model.customProperties() != null ? new HashMap<>(model.customProperties()) : new HashMap<>();
@@ -6,6 +6,7 @@ import io.cx.model_registry.proxy.dto.versions.ModelVersionCreate;
 import io.cx.model_registry.proxy.dto.versions.ModelVersionList;
 import io.cx.model_registry.proxy.dto.versions.ModelVersionUpdate;
 import io.cx.model_registry.proxy.mappers.ModelRegistryMapper;
+import io.cx.model_registry.proxy.service.ordering.CommandSequencer;
 import io.cx.platform.events.modelversions.ModelVersionEvents;
 import io.cx.platform.events.modelversions.ModelVersionInfo;
 import io.cx.platform.events.modelversions.commands.GetModelVersionQueryPayload;
@@ -37,13 +38,16 @@ public class ModelVersionCommandService {
     @Inject
     EventProducer eventProducer;
 
+    @Inject
+    CommandSequencer sequencer;
+
     public Uni<Void> handle(ModelVersionEventsCommand command) {
-        return dispatchNullable(command, cmd -> switch (cmd) {
+        return sequencer.execute("model-version", aggregateId(command), () -> dispatchNullable(command, cmd -> switch (cmd) {
             case ModelVersionEventsCommand.CreateModelVersionCommand create -> handleCreate(create);
             case ModelVersionEventsCommand.UpdateModelVersionCommand update -> handleUpdate(update);
             case ModelVersionEventsCommand.ListModelVersionsQuery list -> handleList(list);
             case ModelVersionEventsCommand.GetModelVersionQuery get -> handleGet(get);
-        });
+        }));
     }
 
     private Uni<Void> handleCreate(ModelVersionEventsCommand.CreateModelVersionCommand command) {
@@ -130,6 +134,16 @@ public class ModelVersionCommandService {
         return payload.modelId();
     }
 
+    private static String aggregateId(ModelVersionEventsCommand command) {
+        return switch (command) {
+            case ModelVersionEventsCommand.UpdateModelVersionCommand update when update.payload() != null ->
+                    update.payload().modelId();
+            case ModelVersionEventsCommand.GetModelVersionQuery get when get.payload() != null ->
+                    get.payload().modelVersionId();
+            case null, default -> null;
+        };
+    }
+
     private <T> Uni<Void> dispatchNullable(T command, Function<T, Uni<Void>> dispatcher) {
         return ofNullable(command)
                 .map(dispatcher)
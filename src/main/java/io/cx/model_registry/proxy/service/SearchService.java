@@ -0,0 +1,129 @@
+package io.cx.model_registry.proxy.service;
+
+import io.cx.model_registry.proxy.client.SearchClient;
+import io.cx.model_registry.proxy.dto.artifacts.Artifact;
+import io.cx.model_registry.proxy.dto.artifacts.ModelArtifact;
+import io.cx.model_registry.proxy.dto.experiments.Experiment;
+import io.cx.model_registry.proxy.dto.inferenceservices.InferenceService;
+import io.cx.model_registry.proxy.dto.versions.ModelVersion;
+import io.cx.model_registry.proxy.service.cache.NegativeLookupCache;
+import io.cx.model_registry.proxy.service.cache.NegativeLookupCache.LookupKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+import java.time.Duration;
+
+/**
+ * Поиск сущностей через {@link SearchClient} с кэшированием отрицательных результатов.
+ * <p>
+ * Методы find* используются как проверки существования, поэтому промахи (404)
+ * запоминаются на короткое время. Сервисы, создающие или изменяющие сущности,
+ * сообщают об этом через evict-методы.
+ * </p>
+ */
+@ApplicationScoped
+public class SearchService {
+
+    public static final String MODEL_VERSION = "model_version";
+    public static final String MODEL_ARTIFACT = "model_artifact";
+    public static final String ARTIFACT = "artifact";
+    public static final String EXPERIMENT = "experiment";
+    public static final String INFERENCE_SERVICE = "inference_service";
+
+    @Inject
+    @RestClient
+    SearchClient searchClient;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "proxy.cache.negative.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "proxy.cache.negative.max-size", defaultValue = "10000")
+    long maxSize;
+
+    @ConfigProperty(name = "proxy.cache.negative.ttl", defaultValue = "PT5S")
+    Duration ttl;
+
+    private NegativeLookupCache notFound;
+
+    @PostConstruct
+    void init() {
+        notFound = new NegativeLookupCache(enabled, maxSize, ttl);
+        CaffeineCacheMetrics.monitor(meterRegistry, notFound.nativeCache(), "negative-lookups");
+    }
+
+    public Uni<ModelVersion> findModelVersion(String name, String externalId, String parentResourceId) {
+        return notFound.lookup(new LookupKey(MODEL_VERSION, name, externalId, parentResourceId),
+                () -> searchClient.findModelVersion(name, externalId, parentResourceId));
+    }
+
+    public Uni<ModelArtifact> findModelArtifact(String name, String externalId, String parentResourceId) {
+        return notFound.lookup(new LookupKey(MODEL_ARTIFACT, name, externalId, parentResourceId),
+                () -> searchClient.findModelArtifact(name, externalId, parentResourceId));
+    }
+
+    public Uni<Artifact> findArtifact(String name, String externalId, String parentResourceId) {
+        return notFound.lookup(new LookupKey(ARTIFACT, name, externalId, parentResourceId),
+                () -> searchClient.findArtifact(name, externalId, parentResourceId));
+    }
+
+    public Uni<Experiment> findExperiment(String name, String externalId) {
+        return notFound.lookup(new LookupKey(EXPERIMENT, name, externalId, null),
+                () -> searchClient.findExperiment(name, externalId));
+    }
+
+    public Uni<InferenceService> findInferenceService(String name, String externalId, String parentResourceId) {
+        return notFound.lookup(new LookupKey(INFERENCE_SERVICE, name, externalId, parentResourceId),
+                () -> searchClient.findInferenceService(name, externalId, parentResourceId));
+    }
+
+    /**
+     * Вытеснение отрицательных записей после создания или изменения версии модели.
+     */
+    public void evict(ModelVersion version) {
+        if (version != null) {
+            notFound.evict(MODEL_VERSION, version.name(), version.externalId(), version.registeredModelId());
+        }
+    }
+
+    /**
+     * Вытеснение отрицательных записей после создания или изменения артефакта.
+     * Для артефактов модели дополнительно очищается эндпоинт model_artifact.
+     */
+    public void evict(Artifact artifact, String parentResourceId) {
+        if (artifact == null) {
+            return;
+        }
+        notFound.evict(ARTIFACT, artifact.name(), artifact.externalId(), parentResourceId);
+        if (artifact instanceof ModelArtifact) {
+            notFound.evict(MODEL_ARTIFACT, artifact.name(), artifact.externalId(), parentResourceId);
+        }
+    }
+
+    /**
+     * Вытеснение отрицательных записей после создания или изменения эксперимента.
+     */
+    public void evict(Experiment experiment) {
+        if (experiment != null) {
+            notFound.evict(EXPERIMENT, experiment.name(), experiment.externalId(), null);
+        }
+    }
+
+    /**
+     * Вытеснение отрицательных записей после создания или изменения InferenceService.
+     */
+    public void evict(InferenceService inferenceService) {
+        if (inferenceService != null) {
+            notFound.evict(INFERENCE_SERVICE, inferenceService.name(), inferenceService.externalId(),
+                    inferenceService.servingEnvironmentId());
+        }
+    }
+}
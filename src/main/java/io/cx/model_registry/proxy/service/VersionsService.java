@@ -1,17 +1,23 @@
 package io.cx.model_registry.proxy.service;
 
 import io.cx.model_registry.proxy.client.VersionClient;
-import io.cx.model_registry.proxy.client.SearchClient;
+import io.cx.model_registry.proxy.dto.batch.BatchGetResult;
 import io.cx.model_registry.proxy.dto.metadata.MetadataValue;
 import io.cx.model_registry.proxy.dto.versions.*;
+import io.cx.model_registry.proxy.service.batch.BatchGetExecutor;
+import io.cx.model_registry.proxy.service.cache.RegistryEntityCaches;
+import io.cx.model_registry.proxy.service.pagination.Paginator;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -23,21 +29,35 @@ public class VersionsService {
     VersionClient versionClient;
 
     @Inject
-    @RestClient
-    SearchClient search;
+    SearchService searchService;
+
+    @Inject
+    RegistryEntityCaches caches;
+
+    @Inject
+    BatchGetExecutor batchGetExecutor;
+
+    @ConfigProperty(name = "proxy.pagination.page-size", defaultValue = "100")
+    int scanPageSize;
+
+    @ConfigProperty(name = "proxy.pagination.prefetch-pages", defaultValue = "2")
+    int scanPrefetchPages;
 
     /**
      * Создание новой версии модели
      */
     public Uni<ModelVersion> createModelVersion(ModelVersionCreate request) {
-        return versionClient.createModelVersion(request);
+        return versionClient.createModelVersion(request)
+                .invoke(version -> caches.versions().put(version.id(), version))
+                .invoke(version -> caches.versionLists().invalidateAll())
+                .invoke(version -> searchService.evict(version));
     }
 
     /**
      * Поиск версии модели по имени, externalId или parentResourceId
      */
     public Uni<ModelVersion> findModelVersion(String name, String externalId, String parentResourceId) {
-        return search.findModelVersion(name, externalId, parentResourceId);
+        return searchService.findModelVersion(name, externalId, parentResourceId);
     }
 
     /**
@@ -51,7 +71,22 @@ public class VersionsService {
             String nextPageToken
     ) {
         log.info("Listing model versions with filter: {}", filterQuery);
-        return versionClient.getModelVersions(filterQuery, pageSize, orderBy, sortOrder, nextPageToken);
+        return caches.versionLists().getOrLoad(
+                RegistryEntityCaches.listKey(filterQuery, pageSize, orderBy, sortOrder, nextPageToken),
+                () -> versionClient.getModelVersions(filterQuery, pageSize, orderBy, sortOrder, nextPageToken)
+        );
+    }
+
+    /**
+     * Потоковый обход всех версий моделей по фильтру, страница за страницей по {@code nextPageToken}.
+     * Страницы не кэшируются: полный обход не должен вытеснять короткоживущие страницы списков.
+     */
+    public Multi<ModelVersion> streamModelVersions(String filterQuery) {
+        log.info("Streaming model versions with filter: {}", filterQuery);
+        return Paginator.stream(
+                token -> versionClient.getModelVersions(filterQuery, scanPageSize, "ID", "ASC", token),
+                scanPrefetchPages
+        );
     }
 
     /**
@@ -59,6 +94,32 @@ public class VersionsService {
      */
     public Uni<ModelVersion> getModelVersionById(String versionId) {
         log.info("Getting model version by ID: {}", versionId);
+        return caches.versions().getOrLoad(versionId, () -> loadModelVersion(versionId), this::isModelVersionModified);
+    }
+
+    /**
+     * Проверка, менялась ли версия модели после получения кэшированной копии
+     */
+    private Uni<Boolean> isModelVersionModified(String versionId, ModelVersion cached) {
+        String filter = RegistryEntityCaches.revalidationFilter(versionId, cached);
+        if (filter == null) {
+            return Uni.createFrom().item(true);
+        }
+        return versionClient.getModelVersions(filter, 1, "ID", "ASC", null)
+                .map(RegistryEntityCaches::isModified);
+    }
+
+    /**
+     * Пакетное получение версий моделей по списку ID
+     */
+    public Uni<BatchGetResult<ModelVersion>> getModelVersionsByIds(List<String> versionIds) {
+        return batchGetExecutor.getAll(versionIds, this::getModelVersionById);
+    }
+
+    /**
+     * Получение версии модели по ID напрямую из Model Registry, минуя кэш
+     */
+    private Uni<ModelVersion> loadModelVersion(String versionId) {
         return versionClient.getModelVersion(versionId)
                 .onItem().ifNull().failWith(NotFoundException::new);
     }
@@ -68,7 +129,11 @@ public class VersionsService {
      */
     public Uni<ModelVersion> updateModelVersion(String modelVersionId, ModelVersionUpdate update) {
         log.info("Updating model version: {}", modelVersionId);
-        return versionClient.updateModelVersion(modelVersionId, update);
+        return versionClient.updateModelVersion(modelVersionId, update)
+                .invoke(version -> caches.versions().put(modelVersionId, version))
+                .invoke(version -> caches.versionLists().invalidateAll())
+                .invoke(version -> searchService.evict(version))
+                .onFailure().invoke(() -> caches.versions().invalidate(modelVersionId));
     }
 
     /**
@@ -100,7 +165,7 @@ public class VersionsService {
             MetadataValue value
     ) {
 
-        return getModelVersionById(versionId)
+        return loadModelVersion(versionId)
                 .map(version -> {
                     Map<String, MetadataValue> customProperties =
                             version.customProperties() != null ? new HashMap<>(version.customProperties()) : new HashMap<>();
@@ -0,0 +1,94 @@
+package io.cx.model_registry.proxy.service.batch;
+
+import io.cx.model_registry.proxy.dto.batch.BatchGetResult;
+import io.cx.model_registry.proxy.dto.batch.BatchItemError;
+import io.cx.model_registry.proxy.exceptions.RestClientException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.WebApplicationException;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Параллельное получение сущностей по списку идентификаторов.
+ * <p>
+ * Не более {@code proxy.batch.concurrency} обращений выполняются одновременно;
+ * ошибка по одному идентификатору не прерывает остальные и попадает в {@code errors}.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+public class BatchGetExecutor {
+
+    @ConfigProperty(name = "proxy.batch.concurrency", defaultValue = "16")
+    int concurrency;
+
+    @ConfigProperty(name = "proxy.batch.max-ids", defaultValue = "500")
+    int maxIds;
+
+    public <T> Uni<BatchGetResult<T>> getAll(List<String> ids, Function<String, Uni<T>> loader) {
+        List<String> uniqueIds = ids.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .distinct()
+                .toList();
+        if (uniqueIds.size() > maxIds) {
+            throw new BadRequestException("At most " + maxIds + " ids can be requested at once");
+        }
+        if (uniqueIds.isEmpty()) {
+            return Uni.createFrom().item(new BatchGetResult<>(List.of(), Map.of()));
+        }
+
+        return Multi.createFrom().iterable(uniqueIds)
+                .onItem().transformToUni(id -> Uni.createFrom().deferred(() -> loader.apply(id))
+                        .map(item -> new Outcome<T>(id, item, null))
+                        .onFailure().recoverWithItem(failure -> new Outcome<T>(id, null, toError(id, failure))))
+                .merge(Math.max(1, concurrency))
+                .collect().asList()
+                .map(outcomes -> assemble(uniqueIds, outcomes));
+    }
+
+    private static <T> BatchGetResult<T> assemble(List<String> ids, List<Outcome<T>> outcomes) {
+        Map<String, Outcome<T>> byId = new HashMap<>();
+        outcomes.forEach(outcome -> byId.put(outcome.id(), outcome));
+
+        List<T> items = new ArrayList<>(ids.size());
+        Map<String, BatchItemError> errors = new LinkedHashMap<>();
+        for (String id : ids) {
+            Outcome<T> outcome = byId.get(id);
+            if (outcome.error() != null) {
+                errors.put(id, outcome.error());
+            } else if (outcome.item() != null) {
+                items.add(outcome.item());
+            }
+        }
+        return new BatchGetResult<>(items, errors);
+    }
+
+    private static BatchItemError toError(String id, Throwable failure) {
+        int status = 500;
+        if (failure instanceof RestClientException restClientException) {
+            status = restClientException.status();
+        } else if (failure instanceof WebApplicationException webApplicationException) {
+            status = webApplicationException.getResponse().getStatus();
+        }
+        if (status >= 500) {
+            log.warn("Batch lookup failed for id {}: {}", id, failure.getMessage());
+        }
+        return new BatchItemError(status, failure.getMessage());
+    }
+
+    private record Outcome<T>(String id, T item, BatchItemError error) {
+    }
+}
@@ -0,0 +1,177 @@
+package io.cx.model_registry.proxy.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.smallrye.mutiny.Uni;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Ограниченный по размеру read-through кэш сущностей Model Registry с TTL.
+ * <p>
+ * Ключ — идентификатор сущности в Model Registry. Статистика попаданий, промахов
+ * и вытеснений собирается Caffeine и публикуется через Micrometer.
+ * </p>
+ * <p>
+ * Запись старше {@code revalidateAfter} перед использованием проверяется через {@link Revalidator}:
+ * если сущность не менялась, возвращается кэшированный объект без повторной загрузки и десериализации.
+ * Запись вытесняется через {@code ttl} после загрузки: успешные проверки этот срок не продлевают,
+ * поэтому сущность, удалённую в Model Registry, обнаруживает очередная обычная загрузка.
+ * Неуспешная загрузка удаляет запись.
+ * </p>
+ *
+ * @param <V> тип кэшируемой сущности
+ */
+public class EntityCache<V> {
+
+    private final String name;
+    private final boolean enabled;
+    private final long revalidateAfterNanos;
+    private final Ticker ticker;
+    private final Cache<String, Entry<V>> cache;
+
+    private final LongAdder unchanged = new LongAdder();
+    private final LongAdder modified = new LongAdder();
+
+    public EntityCache(String name, boolean enabled, long maxSize, Duration ttl) {
+        this(name, enabled, maxSize, ttl, ttl);
+    }
+
+    public EntityCache(String name, boolean enabled, long maxSize, Duration ttl, Duration revalidateAfter) {
+        this(name, enabled, maxSize, ttl, revalidateAfter, Ticker.systemTicker());
+    }
+
+    EntityCache(String name, boolean enabled, long maxSize, Duration ttl, Duration revalidateAfter, Ticker ticker) {
+        this.name = name;
+        this.enabled = enabled;
+        this.revalidateAfterNanos = revalidateAfter.toNanos();
+        this.ticker = ticker;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new LoadedAtExpiry<V>(ttl.toNanos()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Возвращает сущность из кэша, либо загружает её через {@code loader} и кладёт в кэш.
+     */
+    public Uni<V> getOrLoad(String id, Supplier<Uni<V>> loader) {
+        return getOrLoad(id, loader, null);
+    }
+
+    /**
+     * Как {@link #getOrLoad(String, Supplier)}, но устаревшая запись сначала проверяется {@code revalidator}.
+     * Ошибка проверки приводит к полной загрузке.
+     */
+    public Uni<V> getOrLoad(String id, Supplier<Uni<V>> loader, Revalidator<V> revalidator) {
+        if (!enabled || id == null) {
+            return loader.get();
+        }
+        return Uni.createFrom().deferred(() -> {
+            Entry<V> cached = cache.getIfPresent(id);
+            if (cached == null) {
+                return load(id, loader);
+            }
+            if (revalidator == null || ticker.read() - cached.validatedAt() < revalidateAfterNanos) {
+                return Uni.createFrom().item(cached.value());
+            }
+            return revalidator.isModified(id, cached.value())
+                    .onFailure().recoverWithItem(true)
+                    .chain(changed -> {
+                        if (Boolean.TRUE.equals(changed)) {
+                            modified.increment();
+                            return load(id, loader);
+                        }
+                        unchanged.increment();
+                        cache.asMap().replace(id, cached, new Entry<>(cached.value(), cached.loadedAt(), ticker.read()));
+                        return Uni.createFrom().item(cached.value());
+                    });
+        });
+    }
+
+    /**
+     * Обновление записи актуальным значением, полученным после записи в Model Registry.
+     */
+    public void put(String id, V value) {
+        if (enabled && id != null && value != null) {
+            long now = ticker.read();
+            cache.put(id, new Entry<>(value, now, now));
+        }
+    }
+
+    public void invalidate(String id) {
+        if (id != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Число проверок, подтвердивших неизменность сущности.
+     */
+    public long revalidatedUnchanged() {
+        return unchanged.sum();
+    }
+
+    /**
+     * Число проверок, обнаруживших изменение сущности (или завершившихся ошибкой).
+     */
+    public long revalidatedModified() {
+        return modified.sum();
+    }
+
+    Cache<String, Entry<V>> nativeCache() {
+        return cache;
+    }
+
+    private Uni<V> load(String id, Supplier<Uni<V>> loader) {
+        return loader.get()
+                .invoke(value -> put(id, value))
+                .onFailure().invoke(() -> invalidate(id));
+    }
+
+    /**
+     * Проверка, изменилась ли сущность в Model Registry после получения кэшированной копии.
+     */
+    @FunctionalInterface
+    public interface Revalidator<V> {
+        Uni<Boolean> isModified(String id, V cached);
+    }
+
+    record Entry<V>(V value, long loadedAt, long validatedAt) {
+    }
+
+    /**
+     * Срок жизни записи отсчитывается от {@link Entry#loadedAt()}, а не от последней замены записи.
+     */
+    private record LoadedAtExpiry<V>(long ttlNanos) implements Expiry<String, Entry<V>> {
+
+        @Override
+        public long expireAfterCreate(String id, Entry<V> entry, long currentTime) {
+            return Math.max(0, ttlNanos - (currentTime - entry.loadedAt()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, Entry<V> entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String id, Entry<V> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
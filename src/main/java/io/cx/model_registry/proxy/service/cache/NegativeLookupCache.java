@@ -0,0 +1,174 @@
+package io.cx.model_registry.proxy.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.cx.model_registry.proxy.exceptions.RestClientException;
+import io.cx.model_registry.proxy.exceptions.RestClientNotFoundException;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.NotFoundException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Кэш отрицательных результатов поиска (HTTP 404) с коротким TTL.
+ * <p>
+ * Повторный поиск по тому же ключу в пределах TTL завершается ошибкой 404 без обращения
+ * к Model Registry. Хранится не исключение, а его описание: каждый вызывающий получает
+ * новый экземпляр, чтобы подавленные исключения и стек одного запроса не попадали в другой.
+ * Создание или изменение сущности должно вытеснять совпадающие записи через
+ * {@link #evict(String, String, String, String)}; для этого ключи индексируются по эндпоинту
+ * и {@code name} (или {@code externalId}, если имя не задано).
+ * </p>
+ */
+public class NegativeLookupCache {
+
+    private static final String ANY = "";
+
+    private final boolean enabled;
+    private final long maxSize;
+    private final Cache<LookupKey, NotFound> cache;
+    // Индекс может содержать уже вытесненные ключи; они удаляются при evict и при разрастании индекса.
+    private final Map<String, Set<LookupKey>> index = new ConcurrentHashMap<>();
+
+    public NegativeLookupCache(boolean enabled, long maxSize, Duration ttl) {
+        this(enabled, maxSize, ttl, Ticker.systemTicker());
+    }
+
+    NegativeLookupCache(boolean enabled, long maxSize, Duration ttl, Ticker ticker) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    public <T> Uni<T> lookup(LookupKey key, Supplier<Uni<T>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        return Uni.createFrom().deferred(() -> {
+            NotFound cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return Uni.createFrom().failure(cached.toException());
+            }
+            return call.get()
+                    .onFailure(NegativeLookupCache::isNotFound)
+                    .invoke(failure -> remember(key, NotFound.of(failure)));
+        });
+    }
+
+    /**
+     * Вытесняет все отрицательные записи эндпоинта, под которые попадает сущность с указанными атрибутами.
+     * {@code parentResourceId == null} означает «любой родительский ресурс».
+     */
+    public void evict(String endpoint, String name, String externalId, String parentResourceId) {
+        evictBucket(bucket(endpoint, "n", name), endpoint, name, externalId, parentResourceId);
+        evictBucket(bucket(endpoint, "x", externalId), endpoint, name, externalId, parentResourceId);
+        evictBucket(bucket(endpoint, ANY, null), endpoint, name, externalId, parentResourceId);
+    }
+
+    Cache<LookupKey, NotFound> nativeCache() {
+        return cache;
+    }
+
+    int indexedKeys() {
+        return index.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void remember(LookupKey key, NotFound notFound) {
+        // Ключ попадает в индекс до кэша, чтобы evict не пропустил его между двумя вставками.
+        index.computeIfAbsent(key.bucket(), b -> ConcurrentHashMap.newKeySet()).add(key);
+        cache.put(key, notFound);
+        if (index.size() > 2 * maxSize) {
+            prune();
+        }
+    }
+
+    private void evictBucket(String bucket, String endpoint, String name, String externalId, String parentResourceId) {
+        Set<LookupKey> keys = bucket == null ? null : index.get(bucket);
+        if (keys == null) {
+            return;
+        }
+        keys.removeIf(key -> {
+            if (key.matches(endpoint, name, externalId, parentResourceId)) {
+                cache.invalidate(key);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void prune() {
+        Map<LookupKey, NotFound> live = cache.asMap();
+        index.values().forEach(keys -> keys.removeIf(key -> !live.containsKey(key)));
+        index.values().removeIf(Set::isEmpty);
+    }
+
+    private static String bucket(String endpoint, String attribute, String value) {
+        return value == null && !ANY.equals(attribute) ? null : endpoint + '\u0000' + attribute + '\u0000' + value;
+    }
+
+    private static boolean isNotFound(Throwable failure) {
+        if (failure instanceof RestClientException restClientException) {
+            return restClientException.status() == 404;
+        }
+        return failure instanceof NotFoundException;
+    }
+
+    /**
+     * Описание ответа 404, по которому для каждого попадания создаётся новое исключение того же вида.
+     */
+    record NotFound(boolean restClient, String message, String method, String url, String body) {
+
+        static NotFound of(Throwable failure) {
+            if (failure instanceof RestClientException e) {
+                return new NotFound(true, e.getMessage(), e.method(), e.url(), e.body());
+            }
+            return new NotFound(false, failure.getMessage(), null, null, null);
+        }
+
+        RuntimeException toException() {
+            if (!restClient) {
+                return new NotFoundException(message);
+            }
+            return new RestClientNotFoundException(message, false)
+                    .status(404)
+                    .method(method)
+                    .url(url)
+                    .body(body);
+        }
+    }
+
+    /**
+     * Ключ поиска: эндпоинт и параметры запроса {@code name}, {@code externalId}, {@code parentResourceId}.
+     */
+    public record LookupKey(String endpoint, String name, String externalId, String parentResourceId) {
+
+        boolean matches(String endpoint, String name, String externalId, String parentResourceId) {
+            return this.endpoint.equals(endpoint)
+                    && (this.name == null || this.name.equals(name))
+                    && (this.externalId == null || this.externalId.equals(externalId))
+                    && (this.parentResourceId == null || parentResourceId == null
+                    || Objects.equals(this.parentResourceId, parentResourceId));
+        }
+
+        String bucket() {
+            if (name != null) {
+                return NegativeLookupCache.bucket(endpoint, "n", name);
+            }
+            if (externalId != null) {
+                return NegativeLookupCache.bucket(endpoint, "x", externalId);
+            }
+            return NegativeLookupCache.bucket(endpoint, ANY, null);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package io.cx.model_registry.proxy.service.cache;
+
+import io.cx.model_registry.proxy.dto.BaseResource;
+import io.cx.model_registry.proxy.dto.BaseResourceList;
+import io.cx.model_registry.proxy.dto.artifacts.Artifact;
+import io.cx.model_registry.proxy.dto.models.RegisteredModel;
+import io.cx.model_registry.proxy.dto.models.RegisteredModelList;
+import io.cx.model_registry.proxy.dto.versions.ModelVersion;
+import io.cx.model_registry.proxy.dto.versions.ModelVersionList;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * Кэши сущностей, читаемых из Model Registry.
+ * <p>
+ * Метрики публикуются как {@code cache.gets}, {@code cache.evictions} и {@code cache.size}
+ * с тегом {@code cache=<имя кэша>}, результаты проверок актуальности — как
+ * {@code cache.revalidations} с тегом {@code result=unchanged|modified}.
+ * </p>
+ * <p>
+ * Страницы списков моделей и версий кэшируются на короткое время ({@code proxy.cache.list.ttl})
+ * по нормализованному ключу запроса и сбрасываются целиком при любой записи соответствующего типа.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+public class RegistryEntityCaches {
+
+    public static final String REGISTERED_MODELS = "registered-models";
+    public static final String MODEL_VERSIONS = "model-versions";
+    public static final String ARTIFACTS = "artifacts";
+    public static final String MODEL_LISTS = "model-lists";
+    public static final String MODEL_VERSION_LISTS = "model-version-lists";
+
+    private static final char KEY_SEPARATOR = '\n';
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "proxy.cache.entity.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "proxy.cache.entity.max-size", defaultValue = "1000")
+    long maxSize;
+
+    @ConfigProperty(name = "proxy.cache.entity.ttl", defaultValue = "PT5M")
+    Duration ttl;
+
+    @ConfigProperty(name = "proxy.cache.entity.revalidate-after", defaultValue = "PT10S")
+    Duration revalidateAfter;
+
+    @ConfigProperty(name = "proxy.cache.list.enabled", defaultValue = "true")
+    boolean listEnabled;
+
+    @ConfigProperty(name = "proxy.cache.list.max-size", defaultValue = "500")
+    long listMaxSize;
+
+    @ConfigProperty(name = "proxy.cache.list.ttl", defaultValue = "PT3S")
+    Duration listTtl;
+
+    private EntityCache<RegisteredModel> models;
+    private EntityCache<ModelVersion> versions;
+    private EntityCache<Artifact> artifacts;
+    private EntityCache<RegisteredModelList> modelLists;
+    private EntityCache<ModelVersionList> versionLists;
+
+    @PostConstruct
+    void init() {
+        models = create(REGISTERED_MODELS);
+        versions = create(MODEL_VERSIONS);
+        artifacts = create(ARTIFACTS);
+        modelLists = create(MODEL_LISTS, listEnabled, listMaxSize, listTtl, listTtl);
+        versionLists = create(MODEL_VERSION_LISTS, listEnabled, listMaxSize, listTtl, listTtl);
+        log.info("Entity caches initialized: enabled={}, maxSize={}, ttl={}, revalidateAfter={}",
+                enabled, maxSize, ttl, revalidateAfter);
+        log.info("List caches initialized: enabled={}, maxSize={}, ttl={}", listEnabled, listMaxSize, listTtl);
+    }
+
+    public EntityCache<RegisteredModel> models() {
+        return models;
+    }
+
+    public EntityCache<ModelVersion> versions() {
+        return versions;
+    }
+
+    public EntityCache<Artifact> artifacts() {
+        return artifacts;
+    }
+
+    public EntityCache<RegisteredModelList> modelLists() {
+        return modelLists;
+    }
+
+    public EntityCache<ModelVersionList> versionLists() {
+        return versionLists;
+    }
+
+    /**
+     * Ключ страницы списка: пробелы в фильтре вне строковых литералов схлопываются, порядок сортировки
+     * приводится к верхнему регистру, чтобы одинаковые по смыслу запросы разных клиентов попадали в одну запись.
+     * Содержимое литералов ({@code 'a  b'}) не меняется: это разные значения фильтра.
+     */
+    public static String listKey(
+            String filterQuery,
+            Integer pageSize,
+            String orderBy,
+            String sortOrder,
+            String nextPageToken
+    ) {
+        return normalizeFilter(filterQuery) + KEY_SEPARATOR
+                + (pageSize == null ? "" : pageSize) + KEY_SEPARATOR
+                + normalize(orderBy).toUpperCase() + KEY_SEPARATOR
+                + normalize(sortOrder).toUpperCase() + KEY_SEPARATOR
+                + normalize(nextPageToken);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : WHITESPACE.matcher(value.strip()).replaceAll(" ");
+    }
+
+    private static String normalizeFilter(String filter) {
+        if (filter == null) {
+            return "";
+        }
+        String value = filter.strip();
+        StringBuilder result = new StringBuilder(value.length());
+        char quote = 0;
+        boolean escaped = false;
+        boolean space = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (quote != 0) {
+                result.append(c);
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (Character.isWhitespace(c)) {
+                space = true;
+            } else {
+                if (space) {
+                    result.append(' ');
+                    space = false;
+                }
+                if (c == '\'' || c == '"') {
+                    quote = c;
+                }
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Фильтр списочного запроса для проверки актуальности кэшированной копии.
+     * Model Registry не поддерживает ETag/If-Modified-Since, поэтому проверка выполняется запросом
+     * списка с {@code pageSize=1}, который возвращает сущность только если она менялась после
+     * кэшированного {@code lastUpdateTimeSinceEpoch}: для неизменённой сущности тело не передаётся.
+     * <p>
+     * Удалённая сущность тоже даёт пустой ответ. Её обнаруживает обычная загрузка после истечения
+     * {@code ttl} записи (проверки его не продлевают): ответ 404 не попадает в кэш.
+     * </p>
+     *
+     * @return {@code null}, если у копии нет {@code lastUpdateTimeSinceEpoch} или ID не числовой
+     * и проверка невозможна
+     */
+    public static String revalidationFilter(String id, BaseResource cached) {
+        if (cached == null || cached.lastUpdateTimeSinceEpoch() == null || !isNumeric(id)) {
+            return null;
+        }
+        return "id = " + id + " AND lastUpdateTimeSinceEpoch > " + cached.lastUpdateTimeSinceEpoch();
+    }
+
+    /**
+     * Сущность считается изменённой, если ответ на {@link #revalidationFilter} не пустой.
+     */
+    public static boolean isModified(BaseResourceList<? extends BaseResource> list) {
+        return list != null && list.items() != null && !list.items().isEmpty();
+    }
+
+    private static boolean isNumeric(String id) {
+        return id != null && !id.isEmpty() && id.chars().allMatch(c -> c >= '0' && c <= '9');
+    }
+
+    private <V> EntityCache<V> create(String name) {
+        return create(name, enabled, maxSize, ttl, revalidateAfter);
+    }
+
+    private <V> EntityCache<V> create(
+            String name,
+            boolean enabled,
+            long maxSize,
+            Duration ttl,
+            Duration revalidateAfter
+    ) {
+        EntityCache<V> cache = new EntityCache<>(name, enabled, maxSize, ttl, revalidateAfter);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.nativeCache(), name);
+        FunctionCounter.builder("cache.revalidations", cache, EntityCache::revalidatedUnchanged)
+                .tags("cache", name, "result", "unchanged")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.revalidations", cache, EntityCache::revalidatedModified)
+                .tags("cache", name, "result", "modified")
+                .register(meterRegistry);
+        return cache;
+    }
+}
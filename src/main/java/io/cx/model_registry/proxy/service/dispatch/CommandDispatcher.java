@@ -0,0 +1,62 @@
+package io.cx.model_registry.proxy.service.dispatch;
+
+import io.cx.model_registry.proxy.mappers.CloudEventBinaryDecoder;
+import io.cx.model_registry.proxy.service.ArtifactCommandService;
+import io.cx.model_registry.proxy.service.ModelCommandService;
+import io.cx.model_registry.proxy.service.ModelVersionCommandService;
+import io.cx.model_registry.proxy.service.failures.CommandFailureHandler;
+import io.cx.platform.events.BaseEvent;
+import io.cx.platform.events.artifacts.commands.ArtifactEventsCommand;
+import io.cx.platform.events.models.commands.ModelEventsCommand;
+import io.cx.platform.events.modelversions.commands.ModelVersionEventsCommand;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.function.Function;
+
+/**
+ * Декодирование и выполнение команды из {@link CommandEnvelope} с передачей результата
+ * в {@link CommandFailureHandler}.
+ */
+@ApplicationScoped
+public class CommandDispatcher {
+
+    @Inject
+    CloudEventBinaryDecoder decoder;
+
+    @Inject
+    ModelCommandService commandService;
+
+    @Inject
+    ModelVersionCommandService modelVersionCommandService;
+
+    @Inject
+    ArtifactCommandService artifactCommandService;
+
+    @Inject
+    CommandFailureHandler failureHandler;
+
+    public Uni<Void> process(CommandEnvelope envelope) {
+        return Uni.createFrom().deferred(() -> dispatch(envelope))
+                .onItem().invoke(() -> failureHandler.onSuccess(envelope.stream()))
+                .onFailure().recoverWithUni(failure -> failureHandler.onFailure(envelope, failure));
+    }
+
+    private Uni<Void> dispatch(CommandEnvelope envelope) {
+        return switch (envelope.stream()) {
+            case MODEL -> handle(envelope, ModelEventsCommand.class, commandService::handle);
+            case MODEL_VERSION -> handle(envelope, ModelVersionEventsCommand.class, modelVersionCommandService::handle);
+            case ARTIFACT -> handle(envelope, ArtifactEventsCommand.class, artifactCommandService::handle);
+        };
+    }
+
+    private <T extends BaseEvent> Uni<Void> handle(
+            CommandEnvelope envelope,
+            Class<T> rootType,
+            Function<T, Uni<Void>> handler
+    ) {
+        T command = decoder.decode(envelope.attributes(), envelope.contentType(), envelope.body(), rootType);
+        return command == null ? Uni.createFrom().voidItem() : handler.apply(command);
+    }
+}
@@ -0,0 +1,21 @@
+package io.cx.model_registry.proxy.service.dispatch;
+
+import java.util.Map;
+
+/**
+ * Команда в транспортно-независимом виде: атрибуты CloudEvent без префикса, тип содержимого и тело.
+ *
+ * @param attempt номер попытки обработки, начиная с 1
+ */
+public record CommandEnvelope(
+        CommandStream stream,
+        Map<String, String> attributes,
+        String contentType,
+        byte[] body,
+        int attempt
+) {
+
+    public CommandEnvelope nextAttempt() {
+        return new CommandEnvelope(stream, attributes, contentType, body, attempt + 1);
+    }
+}
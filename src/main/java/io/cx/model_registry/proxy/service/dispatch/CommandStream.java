@@ -0,0 +1,32 @@
+package io.cx.model_registry.proxy.service.dispatch;
+
+import java.util.Arrays;
+
+/**
+ * Потоки команд, принимаемые прокси.
+ */
+public enum CommandStream {
+    MODEL("model"),
+    MODEL_VERSION("model-version"),
+    ARTIFACT("artifact");
+
+    private final String tag;
+
+    CommandStream(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * Имя потока для заголовков и тегов метрик.
+     */
+    public String tag() {
+        return tag;
+    }
+
+    public static CommandStream fromTag(String tag) {
+        return Arrays.stream(values())
+                .filter(stream -> stream.tag.equals(tag))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown command stream: " + tag));
+    }
+}
@@ -0,0 +1,41 @@
+package io.cx.model_registry.proxy.service.events;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Публикация ответов-списков с ограниченным окном одновременных отправок.
+ * <p>
+ * Не более {@code proxy.events.publish-window} отправок ожидают подтверждения брокера одновременно.
+ * При окне больше 1 порядок подтверждений не гарантирован; значение 1 сохраняет
+ * последовательную публикацию в порядке элементов.
+ * </p>
+ */
+@ApplicationScoped
+public class WindowedPublisher {
+
+    @ConfigProperty(name = "proxy.events.publish-window", defaultValue = "16")
+    int window;
+
+    public <T> Uni<Void> publishAll(List<T> items, Function<T, Uni<Void>> publisher) {
+        if (items == null || items.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        if (window <= 1) {
+            return Multi.createFrom().iterable(items)
+                    .onItem().transformToUniAndConcatenate(publisher)
+                    .collect().last()
+                    .replaceWithVoid();
+        }
+        return Multi.createFrom().iterable(items)
+                .onItem().transformToUni(publisher)
+                .merge(window)
+                .collect().last()
+                .replaceWithVoid();
+    }
+}
@@ -0,0 +1,150 @@
+package io.cx.model_registry.proxy.service.failures;
+
+import io.cx.model_registry.proxy.service.dispatch.CommandEnvelope;
+import io.cx.model_registry.proxy.service.dispatch.CommandStream;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.MutinyEmitter;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Обработка результата команды: временные ошибки уходят в retry-топик с экспоненциальной задержкой,
+ * постоянные и исчерпавшие попытки — в DLQ с описанием ошибки.
+ * <p>
+ * Время, раньше которого запись нельзя повторять, передаётся в заголовке {@link #RETRY_DUE}
+ * и соблюдается {@link io.cx.model_registry.proxy.resource.CommandStreamConsumers#consumeRetries}. Метрика {@code registry.commands.outcome}
+ * с тегами {@code stream} и {@code outcome} ({@code success}, {@code retry}, {@code dead_letter}, {@code dropped}).
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+public class CommandFailureHandler {
+
+    public static final String STREAM = "x-command-stream";
+    public static final String RETRY_ATTEMPT = "x-retry-attempt";
+    public static final String RETRY_DUE = "x-retry-due";
+    public static final String CONTENT_TYPE = "content-type";
+    public static final String CE_PREFIX = "ce_";
+
+    private static final int MAX_ERROR_MESSAGE = 1024;
+
+    @Inject
+    @Channel("command-retry-out")
+    MutinyEmitter<byte[]> retryEmitter;
+
+    @Inject
+    @Channel("command-dlq-out")
+    MutinyEmitter<byte[]> dlqEmitter;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "proxy.events.failures.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "proxy.events.retry.max-attempts", defaultValue = "5")
+    int maxAttempts;
+
+    @ConfigProperty(name = "proxy.events.retry.initial-delay", defaultValue = "PT5S")
+    Duration initialDelay;
+
+    @ConfigProperty(name = "proxy.events.retry.max-delay", defaultValue = "PT5M")
+    Duration maxDelay;
+
+    Clock clock = Clock.systemUTC();
+
+    public void onSuccess(CommandStream stream) {
+        count(stream, "success");
+    }
+
+    /**
+     * Направляет неуспешную команду в retry-топик или DLQ. Ошибка публикации возвращается вызывающему,
+     * чтобы транспорт повторил доставку исходного события.
+     */
+    public Uni<Void> onFailure(CommandEnvelope envelope, Throwable failure) {
+        if (!enabled) {
+            log.error("Command {} from stream {} dropped: {}",
+                    envelope.attributes().get("type"), envelope.stream().tag(), failure.getMessage());
+            count(envelope.stream(), "dropped");
+            return Uni.createFrom().voidItem();
+        }
+
+        FailureKind kind = FailureClassifier.classify(failure);
+        if (kind == FailureKind.TRANSIENT && envelope.attempt() < maxAttempts) {
+            Duration delay = backoff(envelope.attempt());
+            log.warn("Command {} from stream {} failed (attempt {}), retrying in {}: {}",
+                    envelope.attributes().get("type"), envelope.stream().tag(), envelope.attempt(), delay,
+                    failure.getMessage());
+            return retryEmitter.sendMessage(retryMessage(envelope.nextAttempt(), delay))
+                    .invoke(() -> count(envelope.stream(), "retry"));
+        }
+
+        log.error("Command {} from stream {} failed permanently after {} attempt(s), sending to DLQ: {}",
+                envelope.attributes().get("type"), envelope.stream().tag(), envelope.attempt(), failure.getMessage());
+        return dlqEmitter.sendMessage(deadLetterMessage(envelope, kind, failure))
+                .invoke(() -> count(envelope.stream(), "dead_letter"));
+    }
+
+    Duration backoff(int attempt) {
+        long base = initialDelay.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(base, maxDelay.toMillis());
+        // Разброс ±20%, чтобы повторы после сбоя не приходили одной волной.
+        long jitter = (long) (capped * 0.2 * (ThreadLocalRandom.current().nextDouble() * 2 - 1));
+        return Duration.ofMillis(Math.max(0, capped + jitter));
+    }
+
+    private Message<byte[]> retryMessage(CommandEnvelope envelope, Duration delay) {
+        RecordHeaders headers = envelopeHeaders(envelope);
+        add(headers, RETRY_DUE, String.valueOf(clock.millis() + delay.toMillis()));
+        return message(envelope, headers);
+    }
+
+    private Message<byte[]> deadLetterMessage(CommandEnvelope envelope, FailureKind kind, Throwable failure) {
+        RecordHeaders headers = envelopeHeaders(envelope);
+        add(headers, "x-error-kind", kind.name());
+        add(headers, "x-error-class", failure.getClass().getName());
+        String message = String.valueOf(failure.getMessage());
+        add(headers, "x-error-message",
+                message.length() > MAX_ERROR_MESSAGE ? message.substring(0, MAX_ERROR_MESSAGE) : message);
+        return message(envelope, headers);
+    }
+
+    private static RecordHeaders envelopeHeaders(CommandEnvelope envelope) {
+        RecordHeaders headers = new RecordHeaders();
+        envelope.attributes().forEach((name, value) -> add(headers, CE_PREFIX + name, value));
+        add(headers, CONTENT_TYPE, envelope.contentType());
+        add(headers, STREAM, envelope.stream().tag());
+        add(headers, RETRY_ATTEMPT, String.valueOf(envelope.attempt()));
+        return headers;
+    }
+
+    private static Message<byte[]> message(CommandEnvelope envelope, RecordHeaders headers) {
+        OutgoingKafkaRecordMetadata<String> metadata = OutgoingKafkaRecordMetadata.<String>builder()
+                .withKey(envelope.attributes().get("subject"))
+                .withHeaders(headers)
+                .build();
+        return Message.of(envelope.body()).addMetadata(metadata);
+    }
+
+    private static void add(RecordHeaders headers, String name, String value) {
+        if (value != null) {
+            headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void count(CommandStream stream, String outcome) {
+        meterRegistry.counter("registry.commands.outcome", "stream", stream.tag(), "outcome", outcome).increment();
+    }
+}
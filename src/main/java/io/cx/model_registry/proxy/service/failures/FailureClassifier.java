@@ -0,0 +1,38 @@
+package io.cx.model_registry.proxy.service.failures;
+
+import io.cx.model_registry.proxy.exceptions.RestClientException;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Классификация ошибок обработки команд по {@link FailureKind}.
+ */
+public final class FailureClassifier {
+
+    private FailureClassifier() {
+    }
+
+    public static FailureKind classify(Throwable failure) {
+        Throwable current = failure;
+        while (current instanceof CompletionException && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return switch (current) {
+            case RestClientException e -> classifyStatus(e.status());
+            case WebApplicationException e -> classifyStatus(e.getResponse().getStatus());
+            case TimeoutException e -> FailureKind.TRANSIENT;
+            case io.smallrye.mutiny.TimeoutException e -> FailureKind.TRANSIENT;
+            case IOException e -> FailureKind.TRANSIENT;
+            case ProcessingException e -> FailureKind.TRANSIENT;
+            case null, default -> FailureKind.PERMANENT;
+        };
+    }
+
+    static FailureKind classifyStatus(int status) {
+        return status <= 0 || status >= 500 || status == 408 || status == 429 ? FailureKind.TRANSIENT : FailureKind.PERMANENT;
+    }
+}
@@ -0,0 +1,12 @@
+package io.cx.model_registry.proxy.service.failures;
+
+public enum FailureKind {
+    /**
+     * Повторная попытка может пройти: 5xx, 408, 429, таймауты, отказ bulkhead.
+     */
+    TRANSIENT,
+    /**
+     * Повтор не поможет: ошибки валидации, 4xx, нераспознанная команда.
+     */
+    PERMANENT
+}
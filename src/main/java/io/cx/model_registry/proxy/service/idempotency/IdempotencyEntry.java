@@ -2,8 +2,27 @@ package io.cx.model_registry.proxy.service.idempotency;
 
 import org.infinispan.protostream.annotations.Proto;
 
+import java.time.Duration;
 import java.time.Instant;
 
+/**
+ * Запись идемпотентности workflow.
+ * <p>
+ * Начиная с {@link #SCHEMA_VERSION} 2 результат хранится в {@code response} в формате
+ * {@code responseEncoding}; {@code responseJson} заполнен только у записей, созданных до этого,
+ * и читается до истечения их TTL.
+ * </p>
+ * <p>
+ * Запись {@code IN_PROGRESS} принадлежит исполнителю {@code ownerId} до {@code leaseExpiresAtEpochMs};
+ * владелец продлевает аренду, а после её истечения запись может перехватить другой исполнитель.
+ * </p>
+ * <p>
+ * {@code rawKey} — каноническая строка, из которой получен хэшированный {@code key}
+ * (см. {@link IdempotencyKeyResolver}); хранится только для диагностики.
+ * Новые поля добавляются в конец, чтобы номера полей protobuf
+ * ранее сохранённых записей не менялись.
+ * </p>
+ */
 @Proto
 public record IdempotencyEntry(
         String key,
@@ -11,18 +30,52 @@ public record IdempotencyEntry(
         WorkflowExecutionState state,
         String responseJson,
         String errorMessage,
-        long updatedAtEpochMs
+        long updatedAtEpochMs,
+        byte[] response,
+        ResultEncoding responseEncoding,
+        int schemaVersion,
+        String ownerId,
+        long leaseExpiresAtEpochMs,
+        String rawKey
 ) {
 
-    public static IdempotencyEntry inProgress(String key, String operation, Instant now) {
-        return new IdempotencyEntry(key, operation, WorkflowExecutionState.IN_PROGRESS, null, null, now.toEpochMilli());
+    public static final int SCHEMA_VERSION = 2;
+
+    public static IdempotencyEntry inProgress(String key, String operation, String ownerId, Instant leaseExpiresAt, Instant now) {
+        return new IdempotencyEntry(key, operation, WorkflowExecutionState.IN_PROGRESS, null, null, now.toEpochMilli(),
+                null, null, SCHEMA_VERSION, ownerId, leaseExpiresAt.toEpochMilli(), null);
     }
 
-    public static IdempotencyEntry succeeded(String key, String operation, String responseJson, Instant now) {
-        return new IdempotencyEntry(key, operation, WorkflowExecutionState.SUCCEEDED, responseJson, null, now.toEpochMilli());
+    public static IdempotencyEntry succeeded(String key, String operation, WorkflowResultCodec.Encoded result, Instant now) {
+        return new IdempotencyEntry(key, operation, WorkflowExecutionState.SUCCEEDED, null, null, now.toEpochMilli(),
+                result == null ? null : result.bytes(), result == null ? null : result.encoding(), SCHEMA_VERSION,
+                null, 0L, null);
     }
 
     public static IdempotencyEntry failed(String key, String operation, String errorMessage, Instant now) {
-        return new IdempotencyEntry(key, operation, WorkflowExecutionState.FAILED, null, errorMessage, now.toEpochMilli());
+        return new IdempotencyEntry(key, operation, WorkflowExecutionState.FAILED, null, errorMessage, now.toEpochMilli(),
+                null, null, SCHEMA_VERSION, null, 0L, null);
+    }
+
+    public IdempotencyEntry withLease(Instant leaseExpiresAt, Instant now) {
+        return new IdempotencyEntry(key, operation, state, responseJson, errorMessage, now.toEpochMilli(),
+                response, responseEncoding, schemaVersion, ownerId, leaseExpiresAt.toEpochMilli(), rawKey);
+    }
+
+    public IdempotencyEntry withRawKey(String rawKey) {
+        return new IdempotencyEntry(key, operation, state, responseJson, errorMessage, updatedAtEpochMs,
+                response, responseEncoding, schemaVersion, ownerId, leaseExpiresAtEpochMs, rawKey);
+    }
+
+    /**
+     * Аренда истекла; у записей без аренды (созданных до её появления) срок отсчитывается от {@code updatedAtEpochMs}.
+     */
+    public boolean leaseExpired(Instant now, Duration defaultLease) {
+        long expiresAt = leaseExpiresAtEpochMs > 0 ? leaseExpiresAtEpochMs : updatedAtEpochMs + defaultLease.toMillis();
+        return now.toEpochMilli() >= expiresAt;
+    }
+
+    public boolean hasResponse() {
+        return response != null || responseJson != null;
     }
 }
@@ -4,12 +4,34 @@ import io.cx.model_registry.proxy.dto.workflows.DeployModelVersionRequest;
 import io.cx.model_registry.proxy.dto.workflows.ModelWithVersionCreateRequest;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.stream.Stream;
 
 import static java.util.function.Predicate.not;
 
+/**
+ * Ключи идемпотентности workflow.
+ * <p>
+ * Каноническая строка ключа — имя класса запроса и стабильные части запроса в нижнем регистре,
+ * где все символы, кроме латинских букв и цифр, заменены на {@code _}; явный ключ из запроса
+ * используется как есть. Схема {@code orchestration.idempotency.key.scheme}:
+ * {@code v1} — ключом служит сама каноническая строка, {@code v2} (по умолчанию) —
+ * {@code v2:} и 128 бит SHA-256 канонической строки в base64url, всего {@value #V2_KEY_LENGTH} символов.
+ * Каноническая строка сохраняется в {@link IdempotencyEntry#rawKey()}.
+ * </p>
+ * <p>
+ * Чтобы после перехода на {@code v2} не терялись записи, созданные по {@code v1}, при
+ * {@code orchestration.idempotency.key.v1-fallback} (по умолчанию включено) ключ {@code v1} возвращается
+ * как {@link ResolvedKey#fallbackKey()} и читается при промахе по {@code v2}. Флаг можно выключить,
+ * когда с момента перехода прошло {@code orchestration.idempotency.ttl}.
+ * </p>
+ */
 @ApplicationScoped
 public class IdempotencyKeyResolver {
 
@@ -18,7 +40,26 @@ public class IdempotencyKeyResolver {
     public static final String NA = "na";
     public static final String NON_ALPHANUMERIC_CHARS = "[^a-zA-Z0-9]";
 
-    public Uni<String> resolve(ModelWithVersionCreateRequest request) {
+    static final String V2_PREFIX = "v2:";
+    static final int V2_HASH_BYTES = 16;
+    static final int V2_KEY_LENGTH = 25;
+
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    @ConfigProperty(name = "orchestration.idempotency.key.scheme", defaultValue = "v2")
+    Scheme scheme;
+
+    @ConfigProperty(name = "orchestration.idempotency.key.v1-fallback", defaultValue = "true")
+    boolean v1Fallback;
+
+    public Uni<ResolvedKey> resolve(ModelWithVersionCreateRequest request) {
         return Uni.createFrom().deferred(() -> request.resolve(() -> {
             String modelStable = firstNonBlank(
                     request.model().externalId(),
@@ -26,11 +67,11 @@ public class IdempotencyKeyResolver {
             String versionStable = firstNonBlank(
                     request.version().externalId(),
                     request.version().name());
-            return toKey(request, modelStable, versionStable);
-        }));
+            return canonical(request, modelStable, versionStable);
+        })).map(this::toKey);
     }
 
-    public Uni<String> resolve(DeployModelVersionRequest request) {
+    public Uni<ResolvedKey> resolve(DeployModelVersionRequest request) {
         return Uni.createFrom().deferred(() -> request.resolve(() -> {
             String envStable = firstNonBlank(
                     request.servingEnvironment().externalId(),
@@ -45,21 +86,54 @@ public class IdempotencyKeyResolver {
                     request.serve().name(),
                     request.serve().modelVersionId()
             );
-            return toKey(request, envStable, inferenceStable, serveStable);
-        }));
+            return canonical(request, envStable, inferenceStable, serveStable);
+        })).map(this::toKey);
     }
 
-    private static <V> String toKey(V value, String... parts) {
-        var keyBuilder =
-                Stream.of(parts)
-                        .filter(not(String::isEmpty))
-                        // Replace all non-alphanumeric characters with underscores.
-                        .map(s -> s.replaceAll(NON_ALPHANUMERIC_CHARS, DOWN_DASH))
-                        .collect(Collectors.joining(DELIMITER));
-
-        return Stream.of(value.getClass().getSimpleName(), keyBuilder)
-                .map(String::toLowerCase)
-                .collect(Collectors.joining(DELIMITER));
+    ResolvedKey toKey(String canonical) {
+        return switch (scheme) {
+            case V1 -> new ResolvedKey(canonical, canonical, null);
+            case V2 -> new ResolvedKey(hashed(canonical), canonical, v1Fallback ? canonical : null);
+        };
+    }
+
+    static String hashed(String canonical) {
+        MessageDigest digest = SHA_256.get();
+        byte[] hash = digest.digest(canonical.getBytes(StandardCharsets.UTF_8));
+        return V2_PREFIX + BASE64.encodeToString(Arrays.copyOf(hash, V2_HASH_BYTES));
+    }
+
+    static <V> String canonical(V value, String... parts) {
+        StringBuilder key = new StringBuilder(64);
+        key.append(value.getClass().getSimpleName().toLowerCase()).append(DELIMITER);
+        boolean first = true;
+        for (String part : parts) {
+            if (!part.isEmpty()) {
+                if (!first) {
+                    key.append(DELIMITER);
+                }
+                appendNormalized(key, part);
+                first = false;
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Однопроходный аналог {@code replaceAll(NON_ALPHANUMERIC_CHARS, DOWN_DASH)} с переводом в нижний регистр.
+     * Регулярное выражение сопоставляет символы по code point, поэтому суррогатная пара (например, emoji)
+     * заменяется одним {@code _}, а не двумя.
+     */
+    private static void appendNormalized(StringBuilder target, String value) {
+        value.codePoints().forEach(c -> {
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                target.append((char) c);
+            } else if (c >= 'A' && c <= 'Z') {
+                target.append((char) (c + ('a' - 'A')));
+            } else {
+                target.append(DOWN_DASH);
+            }
+        });
     }
 
     private String firstNonBlank(String... values) {
@@ -69,4 +143,16 @@ public class IdempotencyKeyResolver {
                 .orElse(NA);
     }
 
+    public enum Scheme {
+        V1,
+        V2
+    }
+
+    /**
+     * @param key         ключ записи в хранилище
+     * @param canonical   каноническая строка, из которой получен ключ
+     * @param fallbackKey ключ прежней схемы, по которому запись ищется при промахе по {@code key}, или {@code null}
+     */
+    public record ResolvedKey(String key, String canonical, String fallbackKey) {
+    }
 }
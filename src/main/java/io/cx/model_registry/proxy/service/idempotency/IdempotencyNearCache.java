@@ -0,0 +1,68 @@
+package io.cx.model_registry.proxy.service.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.cx.model_registry.proxy.service.idempotency.store.IdempotencyStore;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Локальная копия завершённых ({@code SUCCEEDED}/{@code FAILED}) записей идемпотентности.
+ * <p>
+ * Завершённые записи не меняются до истечения TTL, поэтому повторная доставка события
+ * может обойтись без обращения к Infinispan. Локальная запись живёт не дольше остатка TTL
+ * удалённой записи. Согласованность поддерживается событиями хранилища: изменение, удаление
+ * или истечение ключа удаляет локальную копию, а потеря событий (failover клиента) очищает кэш целиком.
+ * Если хранилище не может доставлять события, near-cache отключается.
+ * </p>
+ */
+public class IdempotencyNearCache implements IdempotencyStore.Listener {
+
+    private final Cache<String, IdempotencyEntry> cache;
+    private volatile boolean available = true;
+
+    public IdempotencyNearCache(long maxSize, Duration ttl, Clock clock) {
+        long ttlMillis = ttl.toMillis();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, IdempotencyEntry>creating((key, entry) -> Duration.ofMillis(
+                        Math.max(0, entry.updatedAtEpochMs() + ttlMillis - clock.millis()))))
+                .recordStats()
+                .build();
+    }
+
+    public IdempotencyEntry get(String key) {
+        return available ? cache.getIfPresent(key) : null;
+    }
+
+    /**
+     * Запоминает запись, если она завершена; записи {@code IN_PROGRESS} ещё изменятся и не кэшируются.
+     */
+    public void putIfTerminal(IdempotencyEntry entry) {
+        if (available && entry != null && entry.state() != WorkflowExecutionState.IN_PROGRESS) {
+            cache.put(entry.key(), entry);
+        }
+    }
+
+    Cache<String, IdempotencyEntry> nativeCache() {
+        return cache;
+    }
+
+    @Override
+    public void changed(String key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void reset() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void unavailable() {
+        available = false;
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,113 @@
+package io.cx.model_registry.proxy.service.idempotency;
+
+import io.cx.model_registry.proxy.service.idempotency.store.IdempotencyStore;
+import io.smallrye.mutiny.Uni;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Ожидание изменения записей идемпотентности, занятых другим исполнителем.
+ * <p>
+ * Все ожидающие одного ключа разделяют один сигнал, который срабатывает на событие хранилища
+ * об изменении, удалении или истечении ключа. Регистрацию нужно получить до чтения записи,
+ * иначе изменение между чтением и подпиской будет пропущено. Ожидание ограничено таймаутом,
+ * поэтому без событий (failover, вытеснение) вызывающий просто перечитывает запись.
+ * </p>
+ * <p>
+ * Сигнал удаляется, когда его снимает последний ожидающий ({@link Waiter#release()}), поэтому ключи,
+ * для которых событие так и не пришло, не накапливаются. Если хранилище не может доставлять события
+ * ({@link #unavailable()}), сигналы больше не создаются и ожидание всегда длится до таймаута.
+ * </p>
+ */
+public class IdempotencyWaiters implements IdempotencyStore.Listener {
+
+    private final Map<String, Signal> signals = new ConcurrentHashMap<>();
+    private volatile boolean available = true;
+
+    /**
+     * Регистрация ожидающего ключа. Её нужно снять через {@link Waiter#release()},
+     * если ожидание не понадобилось; {@link Waiter#await} снимает её сам.
+     */
+    public Waiter waiter(String key) {
+        if (!available) {
+            return new Waiter(key, null);
+        }
+        Signal signal = signals.compute(key, (k, current) -> {
+            Signal result = current != null ? current : new Signal();
+            result.holders++;
+            return result;
+        });
+        return new Waiter(key, signal);
+    }
+
+    public int waitingKeys() {
+        return signals.size();
+    }
+
+    @Override
+    public void changed(String key) {
+        Signal signal = signals.remove(key);
+        if (signal != null) {
+            signal.complete(null);
+        }
+    }
+
+    @Override
+    public void reset() {
+        signals.keySet().forEach(this::changed);
+    }
+
+    @Override
+    public void unavailable() {
+        available = false;
+        reset();
+    }
+
+    private void release(String key, Signal signal) {
+        signals.computeIfPresent(key, (k, current) -> current == signal && --current.holders == 0 ? null : current);
+    }
+
+    /**
+     * Сигнал ключа; {@code holders} меняется только внутри {@code compute} карты сигналов.
+     */
+    private static final class Signal extends CompletableFuture<Void> {
+        private int holders;
+    }
+
+    public final class Waiter {
+
+        private final String key;
+        private final Signal signal;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Waiter(String key, Signal signal) {
+            this.key = key;
+            this.signal = signal;
+        }
+
+        /**
+         * Ждёт события по ключу не дольше {@code timeout} и снимает регистрацию.
+         */
+        public Uni<Void> await(Duration timeout) {
+            CompletableFuture<Void> future = signal != null ? signal : new CompletableFuture<>();
+            return Uni.createFrom().completionStage(future)
+                    .ifNoItem().after(timeout).recoverWithNull()
+                    .replaceWithVoid()
+                    .onTermination().invoke(this::release);
+        }
+
+        boolean signalled() {
+            return signal != null && signal.isDone();
+        }
+
+        public void release() {
+            if (signal != null && released.compareAndSet(false, true)) {
+                IdempotencyWaiters.this.release(key, signal);
+            }
+        }
+    }
+}
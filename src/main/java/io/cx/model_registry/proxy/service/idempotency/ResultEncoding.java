@@ -0,0 +1,12 @@
+package io.cx.model_registry.proxy.service.idempotency;
+
+import org.infinispan.protostream.annotations.Proto;
+
+/**
+ * Формат результата workflow в {@link IdempotencyEntry#response()}.
+ */
+@Proto
+public enum ResultEncoding {
+    CBOR,
+    CBOR_GZIP
+}
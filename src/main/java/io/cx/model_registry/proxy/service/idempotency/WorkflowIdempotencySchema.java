@@ -6,7 +6,8 @@ import org.infinispan.protostream.annotations.ProtoSchema;
 @ProtoSchema(
         includeClasses = {
                 IdempotencyEntry.class,
-                WorkflowExecutionState.class
+                WorkflowExecutionState.class,
+                ResultEncoding.class
         },
         schemaPackageName = "io.cx.model_registry.idempotency",
         schemaFileName = "workflow-idempotency.proto"
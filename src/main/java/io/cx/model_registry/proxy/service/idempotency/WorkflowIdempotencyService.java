@@ -1,20 +1,48 @@
 package io.cx.model_registry.proxy.service.idempotency;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.cx.model_registry.proxy.exceptions.IdempotencyEntryAlreadyExistsException;
+import io.cx.model_registry.proxy.service.idempotency.store.IdempotencyStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
-import org.infinispan.client.hotrod.RemoteCache;
-import org.infinispan.client.hotrod.RemoteCacheManager;
 
+import java.io.IOException;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
 import java.util.function.Supplier;
 
+/**
+ * Идемпотентное выполнение workflow с хранением состояния в {@link IdempotencyStore}
+ * (по умолчанию Infinispan, см. {@code orchestration.idempotency.store}).
+ * <p>
+ * Результаты хранятся в CBOR и сжимаются от {@code orchestration.idempotency.result.compression-threshold}
+ * байт (см. {@link WorkflowResultCodec}). Завершённые записи дополнительно держатся в {@link IdempotencyNearCache}
+ * ({@code orchestration.idempotency.near-cache.*}), поэтому повторы не обращаются к удалённому хранилищу.
+ * </p>
+ * <p>
+ * Исполнитель владеет записью {@code IN_PROGRESS} по аренде ({@code orchestration.idempotency.lease.*})
+ * и продлевает её, пока выполняется workflow. Дубликат не отклоняется сразу, а ждёт завершения
+ * до {@code orchestration.idempotency.wait.timeout} (см. {@link IdempotencyWaiters}); запись с истёкшей
+ * арендой перехватывается условной заменой по версии, поэтому её забирает только один исполнитель.
+ * Итог выполнения тоже пишется условной заменой и только пока запись принадлежит исполнителю:
+ * владелец, потерявший аренду, не перезаписывает запись того, кто её перехватил.
+ * </p>
+ */
+@Slf4j
 @ApplicationScoped
 public class WorkflowIdempotencyService {
 
@@ -22,18 +50,69 @@ public class WorkflowIdempotencyService {
     ObjectMapper objectMapper;
 
     @Inject
-    RemoteCacheManager remoteCacheManager;
+    Instance<IdempotencyStore> stores;
+
+    @Inject
+    MeterRegistry meterRegistry;
 
     @ConfigProperty(name = "orchestration.idempotency.enabled", defaultValue = "true")
     boolean idempotencyEnabled;
 
-    @ConfigProperty(name = "orchestration.idempotency.cache-name", defaultValue = "workflow-idempotency")
-    String cacheName;
-
     @ConfigProperty(name = "orchestration.idempotency.ttl", defaultValue = "PT24H")
     Duration entryTtl;
 
-    private volatile RemoteCache<String, IdempotencyEntry> cache;
+    @ConfigProperty(name = "orchestration.idempotency.near-cache.enabled", defaultValue = "true")
+    boolean nearCacheEnabled;
+
+    @ConfigProperty(name = "orchestration.idempotency.near-cache.max-size", defaultValue = "10000")
+    long nearCacheMaxSize;
+
+    @ConfigProperty(name = "orchestration.idempotency.result.compression-threshold", defaultValue = "4096")
+    int compressionThreshold;
+
+    @ConfigProperty(name = "orchestration.idempotency.lease.duration", defaultValue = "PT30S")
+    Duration leaseDuration;
+
+    @ConfigProperty(name = "orchestration.idempotency.lease.heartbeat-interval", defaultValue = "PT10S")
+    Duration heartbeatInterval;
+
+    @ConfigProperty(name = "orchestration.idempotency.wait.timeout", defaultValue = "PT30S")
+    Duration waitTimeout;
+
+    @ConfigProperty(name = "orchestration.idempotency.wait.poll-interval", defaultValue = "PT2S")
+    Duration pollInterval;
+
+    private IdempotencyStore store;
+    private IdempotencyNearCache nearCache;
+    private final IdempotencyWaiters waiters = new IdempotencyWaiters();
+    private WorkflowResultCodec resultCodec;
+    private Counter takeovers;
+    private Counter lostLeases;
+
+    @PostConstruct
+    void init() {
+        init(stores.get());
+    }
+
+    void init(IdempotencyStore store) {
+        resultCodec = new WorkflowResultCodec(objectMapper, compressionThreshold);
+        takeovers = Counter.builder("registry.idempotency.lease.takeovers")
+                .description("IN_PROGRESS idempotency entries taken over after lease expiry")
+                .register(meterRegistry);
+        lostLeases = Counter.builder("registry.idempotency.lease.lost")
+                .description("Workflow results not recorded because the owner no longer held the lease")
+                .register(meterRegistry);
+        Gauge.builder("registry.idempotency.waiting.keys", waiters, IdempotencyWaiters::waitingKeys)
+                .register(meterRegistry);
+        this.store = store;
+        store.addListener(waiters);
+        if (nearCacheEnabled && store.remote()) {
+            nearCache = new IdempotencyNearCache(nearCacheMaxSize, entryTtl, Clock.systemUTC());
+            CaffeineCacheMetrics.monitor(meterRegistry, nearCache.nativeCache(), "idempotency-near-cache");
+            store.addListener(nearCache);
+        }
+        log.info("Workflow idempotency store: {}", store.name());
+    }
 
     public <T> Uni<T> execute(
             String operation,
@@ -41,30 +120,176 @@ public class WorkflowIdempotencyService {
             Class<T> resultType,
             Supplier<Uni<T>> action
     ) {
-        if (!idempotencyEnabled || idempotencyKey == null || idempotencyKey.isBlank()) {
+        return execute(operation, new IdempotencyKeyResolver.ResolvedKey(idempotencyKey, null, null), resultType, action);
+    }
+
+    public <T> Uni<T> execute(
+            String operation,
+            IdempotencyKeyResolver.ResolvedKey idempotencyKey,
+            Class<T> resultType,
+            Supplier<Uni<T>> action
+    ) {
+        String key = idempotencyKey.key();
+        if (!idempotencyEnabled || key == null || key.isBlank()) {
             return action.get();
         }
 
-        return getEntryAsync(idempotencyKey)
-                .onItem().ifNotNull().transformToUni(idempotencyEntry -> resolveExisting(idempotencyEntry, resultType))
-                .onItem().ifNull().switchTo(() -> {
-                    IdempotencyEntry inProgress = IdempotencyEntry.inProgress(idempotencyKey, operation, Instant.now());
-                    return putIfAbsentAsync(idempotencyKey, inProgress)
-                            .chain(raced -> {
-                                if (raced != null && raced.state() != WorkflowExecutionState.IN_PROGRESS) {
-                                    return resolveExisting(raced, resultType);
-                                }
-                                if (raced != null) {
-                                    return Uni.createFrom().failure(new IdempotencyEntryAlreadyExistsException(idempotencyKey));
-                                }
-
-                                return action.get()
-                                        .chain(result -> markSucceededAsync(idempotencyKey, operation, result).replaceWith(result))
-                                        .onFailure().call(throwable -> markFailedAsync(idempotencyKey, operation, throwable));
-                            });
+        Instant deadline = Instant.now().plus(waitTimeout);
+        String rawKey = idempotencyKey.canonical();
+        String fallbackKey = idempotencyKey.fallbackKey();
+        if (fallbackKey == null || fallbackKey.equals(key)) {
+            return attempt(operation, key, rawKey, resultType, action, deadline);
+        }
+        return getEntryAsync(key).chain(existing -> existing != null
+                ? proceed(existing, operation, key, rawKey, resultType, action, deadline)
+                : getEntryAsync(fallbackKey).chain(legacy -> legacy != null
+                        ? proceed(legacy, operation, fallbackKey, rawKey, resultType, action, deadline)
+                        : proceed(null, operation, key, rawKey, resultType, action, deadline)));
+    }
+
+    private <T> Uni<T> attempt(
+            String operation,
+            String key,
+            String rawKey,
+            Class<T> resultType,
+            Supplier<Uni<T>> action,
+            Instant deadline
+    ) {
+        return getEntryAsync(key)
+                .chain(existing -> proceed(existing, operation, key, rawKey, resultType, action, deadline));
+    }
+
+    /**
+     * Продолжение по прочитанной записи {@code key}; запись по ключу прежней схемы ведётся под ним же до конца.
+     */
+    private <T> Uni<T> proceed(
+            IdempotencyEntry existing,
+            String operation,
+            String key,
+            String rawKey,
+            Class<T> resultType,
+            Supplier<Uni<T>> action,
+            Instant deadline
+    ) {
+        if (existing != null) {
+            return existing.state() == WorkflowExecutionState.IN_PROGRESS
+                    ? contend(operation, key, rawKey, resultType, action, deadline)
+                    : resolveExisting(existing, resultType);
+        }
+        return Uni.createFrom().deferred(() -> {
+            String ownerId = UUID.randomUUID().toString();
+            Instant now = Instant.now();
+            IdempotencyEntry inProgress = IdempotencyEntry.inProgress(
+                    key, operation, ownerId, now.plus(leaseDuration), now).withRawKey(rawKey);
+            return putIfAbsentAsync(key, inProgress)
+                    .chain(raced -> {
+                        if (raced == null) {
+                            return runOwned(operation, key, rawKey, ownerId, action);
+                        }
+                        if (raced.state() != WorkflowExecutionState.IN_PROGRESS) {
+                            return resolveExisting(raced, resultType);
+                        }
+                        return contend(operation, key, rawKey, resultType, action, deadline);
+                    });
+        });
+    }
+
+    /**
+     * Запись занята другим исполнителем: перехват истёкшей аренды или ожидание завершения до {@code deadline}.
+     */
+    private <T> Uni<T> contend(
+            String operation,
+            String key,
+            String rawKey,
+            Class<T> resultType,
+            Supplier<Uni<T>> action,
+            Instant deadline
+    ) {
+        IdempotencyWaiters.Waiter waiter = waiters.waiter(key);
+        Uni<IdempotencyStore.Versioned> read = timed("get", store.getVersioned(key))
+                .onFailure().invoke(waiter::release);
+        return read.chain(current -> {
+            if (current == null) {
+                waiter.release();
+                return attempt(operation, key, rawKey, resultType, action, deadline);
+            }
+            IdempotencyEntry existing = current.entry();
+            if (existing.state() != WorkflowExecutionState.IN_PROGRESS) {
+                waiter.release();
+                return resolveExisting(existing, resultType);
+            }
+
+            Instant now = Instant.now();
+            if (existing.leaseExpired(now, leaseDuration)) {
+                waiter.release();
+                String ownerId = UUID.randomUUID().toString();
+                IdempotencyEntry takeover = IdempotencyEntry.inProgress(
+                        key, operation, ownerId, now.plus(leaseDuration), now).withRawKey(rawKey);
+                return timed("replace", store.replace(key, takeover, current.version(), entryTtl))
+                        .chain(replaced -> {
+                            if (!replaced) {
+                                return attempt(operation, key, rawKey, resultType, action, deadline);
+                            }
+                            takeovers.increment();
+                            log.warn("Idempotency key '{}' lease of owner {} expired, taking over as {}",
+                                    key, existing.ownerId(), ownerId);
+                            return runOwned(operation, key, rawKey, ownerId, action);
+                        });
+            }
+
+            if (!now.isBefore(deadline)) {
+                waiter.release();
+                return Uni.createFrom().failure(new IdempotencyEntryAlreadyExistsException(key));
+            }
+            Duration wait = min(Duration.between(now, deadline), pollInterval);
+            return waiter.await(wait)
+                    .chain(() -> attempt(operation, key, rawKey, resultType, action, deadline));
+        });
+    }
+
+    private <T> Uni<T> runOwned(String operation, String key, String rawKey, String ownerId, Supplier<Uni<T>> action) {
+        return Uni.createFrom().deferred(() -> {
+            Cancellable heartbeat = startHeartbeat(key, ownerId);
+            return Uni.createFrom().deferred(action)
+                    .chain(result -> markSucceededAsync(key, rawKey, operation, ownerId, result).replaceWith(result))
+                    .onFailure().call(throwable -> markFailedAsync(key, rawKey, operation, ownerId, throwable))
+                    .onTermination().invoke(heartbeat::cancel);
+        });
+    }
+
+    private Cancellable startHeartbeat(String key, String ownerId) {
+        return Multi.createFrom().ticks().every(heartbeatInterval)
+                .onOverflow().drop()
+                .onItem().transformToUniAndConcatenate(tick -> renewLease(key, ownerId))
+                .subscribe().with(
+                        ignored -> {
+                        },
+                        failure -> log.warn("Lease heartbeat of idempotency key '{}' stopped: {}", key, failure.getMessage())
+                );
+    }
+
+    private Uni<Void> renewLease(String key, String ownerId) {
+        return store.getVersioned(key)
+                .chain(current -> {
+                    if (current == null
+                            || current.entry().state() != WorkflowExecutionState.IN_PROGRESS
+                            || !ownerId.equals(current.entry().ownerId())) {
+                        log.warn("Idempotency key '{}' lease is no longer held by {}", key, ownerId);
+                        return Uni.createFrom().voidItem();
+                    }
+                    Instant now = Instant.now();
+                    return store.replace(key, current.entry().withLease(now.plus(leaseDuration), now),
+                            current.version(), entryTtl).replaceWithVoid();
+                })
+                .onFailure().recoverWithUni(e -> {
+                    log.warn("Failed to renew lease of idempotency key '{}': {}", key, e.getMessage());
+                    return Uni.createFrom().voidItem();
                 });
     }
 
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
 
     private <T> Uni<T> resolveExisting(IdempotencyEntry existing, Class<T> resultType) {
         if (existing.state() == WorkflowExecutionState.IN_PROGRESS) {
@@ -75,81 +300,91 @@ public class WorkflowIdempotencyService {
                     "Workflow with idempotency key '" + existing.key() + "' has already failed: "
                             + existing.errorMessage()));
         }
-        if (existing.responseJson() == null) {
+        if (!existing.hasResponse()) {
             return Uni.createFrom().failure(new IllegalStateException(
                     "Workflow with idempotency key '" + existing.key() + "' is marked SUCCEEDED but has no response"));
         }
-        return Uni.createFrom().item(deserialize(existing.responseJson(), resultType));
+        return Uni.createFrom().item(deserialize(existing, resultType));
     }
 
-    private Uni<Void> markSucceededAsync(String key, String operation, Object result) {
-        String responseJson = serialize(result);
-        IdempotencyEntry entry = IdempotencyEntry.succeeded(key, operation, responseJson, Instant.now());
-        return putEntryAsync(key, entry);
+    private Uni<Void> markSucceededAsync(String key, String rawKey, String operation, String ownerId, Object result) {
+        IdempotencyEntry entry = IdempotencyEntry.succeeded(key, operation, serialize(key, result), Instant.now())
+                .withRawKey(rawKey);
+        return completeOwnedAsync(key, ownerId, entry);
     }
 
-    private Uni<Void> markFailedAsync(String key, String operation, Throwable throwable) {
+    private Uni<Void> markFailedAsync(String key, String rawKey, String operation, String ownerId, Throwable throwable) {
         String errorMessage = throwable == null ? "unknown error" : throwable.getMessage();
-        IdempotencyEntry entry = IdempotencyEntry.failed(key, operation, errorMessage, Instant.now());
-        return putEntryAsync(key, entry);
+        IdempotencyEntry entry = IdempotencyEntry.failed(key, operation, errorMessage, Instant.now())
+                .withRawKey(rawKey);
+        return completeOwnedAsync(key, ownerId, entry);
+    }
+
+    /**
+     * Итог пишется, только пока запись {@code IN_PROGRESS} принадлежит {@code ownerId}. Если версия сменилась
+     * (например, продлением аренды), запись перечитывается; потерянная аренда только логируется и считается.
+     */
+    private Uni<Void> completeOwnedAsync(String key, String ownerId, IdempotencyEntry terminal) {
+        return timed("get", store.getVersioned(key))
+                .chain(current -> {
+                    if (current == null
+                            || current.entry().state() != WorkflowExecutionState.IN_PROGRESS
+                            || !ownerId.equals(current.entry().ownerId())) {
+                        lostLeases.increment();
+                        log.warn("Idempotency key '{}' lease was lost by {}, {} result is not recorded",
+                                key, ownerId, terminal.state());
+                        return Uni.createFrom().voidItem();
+                    }
+                    return timed("replace", store.replace(key, terminal, current.version(), entryTtl))
+                            .chain(replaced -> replaced
+                                    ? Uni.createFrom().voidItem()
+                                    : completeOwnedAsync(key, ownerId, terminal));
+                });
     }
 
-    private String serialize(Object value) {
+    private WorkflowResultCodec.Encoded serialize(String key, Object value) {
         if (value == null) {
             return null;
         }
         try {
-            return objectMapper.writeValueAsString(value);
-        } catch (JsonProcessingException e) {
-            return "{\"serializationError\":\"" + e.getMessage().replace("\"", "'") + "\"}";
+            return resultCodec.encode(value);
+        } catch (IOException e) {
+            log.warn("Failed to encode workflow result for idempotency key '{}', replay will fail: {}", key, e.getMessage());
+            return null;
         }
     }
 
-    private <T> T deserialize(String json, Class<T> type) {
+    private <T> T deserialize(IdempotencyEntry entry, Class<T> type) {
         try {
-            return objectMapper.readValue(json, type);
+            return resultCodec.decode(entry, type);
         } catch (Exception e) {
             throw new IllegalStateException("Failed to deserialize cached workflow result for type " + type.getSimpleName(), e);
         }
     }
 
     private Uni<IdempotencyEntry> getEntryAsync(String key) {
-        return Uni.createFrom().completionStage(() -> getCache().getAsync(key));
+        IdempotencyNearCache near = nearCache;
+        if (near == null) {
+            return timed("get", store.get(key));
+        }
+        IdempotencyEntry local = near.get(key);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        return timed("get", store.get(key)).invoke(near::putIfTerminal);
     }
 
     private Uni<IdempotencyEntry> putIfAbsentAsync(String key, IdempotencyEntry entry) {
-        return Uni.createFrom().completionStage(() -> getCache().putIfAbsentAsync(
-                key,
-                entry,
-                entryTtl.toMillis(),
-                TimeUnit.MILLISECONDS
-        ));
-    }
-
-    private Uni<Void> putEntryAsync(String key, IdempotencyEntry entry) {
-        return Uni.createFrom().completionStage(() -> getCache().putAsync(
-                key,
-                entry,
-                entryTtl.toMillis(),
-                TimeUnit.MILLISECONDS
-        )).replaceWithVoid();
-    }
-
-    private RemoteCache<String, IdempotencyEntry> getCache() {
-        RemoteCache<String, IdempotencyEntry> local = cache;
-        if (local == null) {
-            synchronized (this) {
-                local = cache;
-                if (local == null) {
-                    local = remoteCacheManager.getCache(cacheName);
-                    if (local == null) {
-                        throw new IllegalStateException(
-                                "Infinispan cache '" + cacheName + "' is not available. Create it or configure auto-create.");
-                    }
-                    cache = local;
-                }
-            }
-        }
-        return local;
+        return timed("put-if-absent", store.putIfAbsent(key, entry, entryTtl));
+    }
+
+    private <T> Uni<T> timed(String operation, Uni<T> call) {
+        return Uni.createFrom().deferred(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call.onTermination().invoke(() -> sample.stop(Timer.builder("registry.idempotency.store")
+                    .tag("store", store.name())
+                    .tag("operation", operation)
+                    .register(meterRegistry)));
+        });
     }
 }
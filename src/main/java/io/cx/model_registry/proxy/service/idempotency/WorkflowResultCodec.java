@@ -0,0 +1,62 @@
+package io.cx.model_registry.proxy.service.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Кодирование результатов workflow для {@link IdempotencyEntry}.
+ * <p>
+ * Результат пишется в CBOR тем же {@link ObjectMapper} (с его модулями и аннотациями DTO),
+ * что и JSON-ответы, но без текстового представления. Результаты от {@code compressionThreshold}
+ * байт дополнительно сжимаются gzip; значение {@code 0} или меньше отключает сжатие.
+ * </p>
+ */
+public final class WorkflowResultCodec {
+
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper jsonMapper;
+    private final int compressionThreshold;
+
+    public WorkflowResultCodec(ObjectMapper objectMapper, int compressionThreshold) {
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.jsonMapper = objectMapper;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public Encoded encode(Object value) throws IOException {
+        byte[] bytes = cborMapper.writeValueAsBytes(value);
+        if (compressionThreshold <= 0 || bytes.length < compressionThreshold) {
+            return new Encoded(ResultEncoding.CBOR, bytes);
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return new Encoded(ResultEncoding.CBOR_GZIP, compressed.toByteArray());
+    }
+
+    /**
+     * Восстанавливает результат записи; записи до {@link IdempotencyEntry#SCHEMA_VERSION} 2 читаются из JSON.
+     */
+    public <T> T decode(IdempotencyEntry entry, Class<T> type) throws IOException {
+        if (entry.response() == null) {
+            return jsonMapper.readValue(entry.responseJson(), type);
+        }
+        if (entry.responseEncoding() == ResultEncoding.CBOR_GZIP) {
+            try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(entry.response()))) {
+                return cborMapper.readValue(input, type);
+            }
+        }
+        return cborMapper.readValue(entry.response(), type);
+    }
+
+    public record Encoded(ResultEncoding encoding, byte[] bytes) {
+    }
+}
@@ -0,0 +1,217 @@
+package io.cx.model_registry.proxy.service.idempotency.store;
+
+import io.quarkus.arc.lookup.LookupIfProperty;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Хранение записей идемпотентности в файле, переживающее перезапуск, без Infinispan.
+ * <p>
+ * Каждое изменение дописывается в журнал ({@code orchestration.idempotency.file.path}),
+ * отображённый в память; актуальные записи держатся в памяти и при старте восстанавливаются
+ * чтением журнала до первой недописанной записи. Когда место в файле заканчивается, журнал
+ * переписывается во временный файл только с живыми записями и атомарно подменяет прежний;
+ * файл при этом увеличивается вдвое, если живые записи занимают больше половины.
+ * Запись попадает в page cache сразу и переживает падение процесса; для сохранности при
+ * отключении питания включается {@code orchestration.idempotency.file.force}, сбрасывающий на диск
+ * только дописанный участок. Изменение применяется в памяти только после записи в журнал.
+ * Операции выполняются на worker pool, чтобы запись в файл не блокировала event loop.
+ * Файл принадлежит одному процессу и не разделяется между подами.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+@LookupIfProperty(name = "orchestration.idempotency.store", stringValue = "file")
+public class FileIdempotencyStore extends LocalIdempotencyStore {
+
+    @ConfigProperty(name = "orchestration.idempotency.file.path", defaultValue = "data/workflow-idempotency.log")
+    Path path;
+
+    @ConfigProperty(name = "orchestration.idempotency.file.initial-size", defaultValue = "64M")
+    MemorySize initialSize;
+
+    @ConfigProperty(name = "orchestration.idempotency.file.force", defaultValue = "false")
+    boolean force;
+
+    private final Map<String, Stored> entries = new HashMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int position;
+
+    public FileIdempotencyStore() {
+        super(Clock.systemUTC());
+    }
+
+    FileIdempotencyStore(Path path, long initialSize, boolean force, Clock clock) {
+        super(clock);
+        this.path = path;
+        this.initialSize = new MemorySize(BigInteger.valueOf(initialSize));
+        this.force = force;
+        open();
+    }
+
+    @PostConstruct
+    synchronized void open() {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            map(Math.max(Files.exists(path) ? Files.size(path) : 0, initialSize.asLongValue()));
+            replay();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open idempotency log " + path, e);
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close idempotency log {}: {}", path, e.getMessage());
+        }
+        channel = null;
+        buffer = null;
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    protected Map<String, Stored> entries() {
+        return entries;
+    }
+
+    @Override
+    protected <T> Uni<T> execute(Supplier<T> operation) {
+        return super.execute(operation).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    @Override
+    protected void append(String key, Stored stored) {
+        byte[] payload = IdempotencyLogFormat.encode(key, stored);
+        if (!fits(position, payload.length)) {
+            compact(key, stored);
+            return;
+        }
+        int start = position;
+        position = IdempotencyLogFormat.write(buffer, position, payload);
+        if (force) {
+            buffer.force(start, position - start);
+        }
+    }
+
+    int position() {
+        return position;
+    }
+
+    private void replay() throws IOException {
+        long now = clock.millis();
+        int offset = 0;
+        byte[] payload;
+        while ((payload = IdempotencyLogFormat.read(buffer, offset)) != null) {
+            IdempotencyLogFormat.Record record = IdempotencyLogFormat.decode(payload);
+            restoredVersion(record.stored().version());
+            if (record.stored().expired(now)) {
+                entries.remove(record.key());
+            } else {
+                entries.put(record.key(), record.stored());
+            }
+            offset += IdempotencyLogFormat.HEADER_BYTES + payload.length;
+        }
+        if (offset + Integer.BYTES <= buffer.capacity() && buffer.getInt(offset) != 0) {
+            // Хвост недописанной записи затирается, чтобы он не был прочитан после следующих записей.
+            log.warn("Idempotency log {} has a torn record at offset {}, discarding the tail", path, offset);
+            for (int i = offset; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+        }
+        position = offset;
+        log.info("Idempotency log {} restored: {} live entries, {} bytes", path, entries.size(), position);
+    }
+
+    /**
+     * Переписывает журнал с живыми записями и ещё не применённой {@code pending}; {@link #entries}
+     * меняются только после успешной подмены файла.
+     */
+    private void compact(String pendingKey, Stored pending) {
+        long now = clock.millis();
+        Map<String, Stored> snapshot = new HashMap<>(entries);
+        snapshot.put(pendingKey, pending);
+        snapshot.values().removeIf(stored -> stored.expired(now));
+
+        List<byte[]> live = new ArrayList<>(snapshot.size());
+        long required = Integer.BYTES;
+        for (Map.Entry<String, Stored> entry : snapshot.entrySet()) {
+            byte[] payload = IdempotencyLogFormat.encode(entry.getKey(), entry.getValue());
+            live.add(payload);
+            required += IdempotencyLogFormat.HEADER_BYTES + payload.length;
+        }
+
+        long capacity = buffer.capacity();
+        while (required * 2 > capacity) {
+            capacity *= 2;
+        }
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Idempotency log " + path + " cannot grow beyond 2 GiB");
+        }
+
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = target.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            int offset = 0;
+            for (byte[] payload : live) {
+                offset = IdempotencyLogFormat.write(mapped, offset, payload);
+            }
+            mapped.force();
+            Files.move(compacted, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            channel.close();
+            map(capacity);
+            position = offset;
+            entries.keySet().retainAll(snapshot.keySet());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact idempotency log " + path, e);
+        }
+        log.info("Idempotency log {} compacted: {} live entries, {} of {} bytes", path, live.size(), position, capacity);
+    }
+
+    private boolean fits(int offset, int payloadBytes) {
+        // Место под длину следующей записи должно остаться, чтобы конец журнала читался как 0.
+        return (long) offset + IdempotencyLogFormat.HEADER_BYTES + payloadBytes + Integer.BYTES <= buffer.capacity();
+    }
+
+    private void map(long capacity) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+}
@@ -0,0 +1,161 @@
+package io.cx.model_registry.proxy.service.idempotency.store;
+
+import io.cx.model_registry.proxy.service.idempotency.IdempotencyEntry;
+import io.cx.model_registry.proxy.service.idempotency.ResultEncoding;
+import io.cx.model_registry.proxy.service.idempotency.WorkflowExecutionState;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * Формат записей журнала {@link FileIdempotencyStore}.
+ * <p>
+ * Запись: длина данных ({@code int}, больше нуля), CRC32 данных ({@code int}) и данные —
+ * ключ, версия, срок жизни и поля {@link IdempotencyEntry}. Нулевая длина означает конец журнала,
+ * несовпадение CRC — недописанную при сбое запись, после которой журнал не читается.
+ * </p>
+ */
+final class IdempotencyLogFormat {
+
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final byte FORMAT_VERSION = 1;
+
+    private IdempotencyLogFormat() {
+    }
+
+    static byte[] encode(String key, LocalIdempotencyStore.Stored stored) {
+        IdempotencyEntry entry = stored.entry();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeString(out, key);
+            out.writeLong(stored.version());
+            out.writeLong(stored.expiresAtEpochMs());
+            writeString(out, entry.key());
+            writeString(out, entry.operation());
+            writeString(out, entry.state() == null ? null : entry.state().name());
+            writeString(out, entry.responseJson());
+            writeString(out, entry.errorMessage());
+            out.writeLong(entry.updatedAtEpochMs());
+            writeBytes(out, entry.response());
+            writeString(out, entry.responseEncoding() == null ? null : entry.responseEncoding().name());
+            out.writeInt(entry.schemaVersion());
+            writeString(out, entry.ownerId());
+            out.writeLong(entry.leaseExpiresAtEpochMs());
+            writeString(out, entry.rawKey());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Record decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte format = in.readByte();
+            if (format != FORMAT_VERSION) {
+                throw new IOException("Unsupported idempotency log record format " + format);
+            }
+            String key = readString(in);
+            long version = in.readLong();
+            long expiresAt = in.readLong();
+            String entryKey = readString(in);
+            String operation = readString(in);
+            String state = readString(in);
+            String responseJson = readString(in);
+            String errorMessage = readString(in);
+            long updatedAt = in.readLong();
+            byte[] response = readBytes(in);
+            String encoding = readString(in);
+            int schemaVersion = in.readInt();
+            String ownerId = readString(in);
+            long leaseExpiresAt = in.readLong();
+            String rawKey = readString(in);
+            IdempotencyEntry entry = new IdempotencyEntry(
+                    entryKey,
+                    operation,
+                    state == null ? null : WorkflowExecutionState.valueOf(state),
+                    responseJson,
+                    errorMessage,
+                    updatedAt,
+                    response,
+                    encoding == null ? null : ResultEncoding.valueOf(encoding),
+                    schemaVersion,
+                    ownerId,
+                    leaseExpiresAt,
+                    rawKey
+            );
+            return new Record(key, new LocalIdempotencyStore.Stored(entry, version, expiresAt));
+        }
+    }
+
+    static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Читает запись по смещению {@code position}; {@code null} — конец журнала или повреждённая запись.
+     */
+    static byte[] read(ByteBuffer buffer, int position) {
+        if (position + HEADER_BYTES > buffer.capacity()) {
+            return null;
+        }
+        int length = buffer.getInt(position);
+        if (length <= 0 || position + HEADER_BYTES + length > buffer.capacity()) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        buffer.get(position + HEADER_BYTES, payload);
+        return checksum(payload) == buffer.getInt(position + Integer.BYTES) ? payload : null;
+    }
+
+    /**
+     * Пишет запись по смещению {@code position}; место должно быть проверено вызывающим.
+     */
+    static int write(ByteBuffer buffer, int position, byte[] payload) {
+        buffer.putInt(position + Integer.BYTES, checksum(payload));
+        buffer.put(position + HEADER_BYTES, payload);
+        // Длина пишется последней: до этого запись выглядит как конец журнала.
+        buffer.putInt(position, payload.length);
+        return position + HEADER_BYTES + payload.length;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] value = readBytes(in);
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        in.readFully(value);
+        return value;
+    }
+
+    record Record(String key, LocalIdempotencyStore.Stored stored) {
+    }
+}
@@ -0,0 +1,73 @@
+package io.cx.model_registry.proxy.service.idempotency.store;
+
+import io.cx.model_registry.proxy.service.idempotency.IdempotencyEntry;
+import io.smallrye.mutiny.Uni;
+
+import java.time.Duration;
+
+/**
+ * Хранилище записей идемпотентности workflow.
+ * <p>
+ * Реализация выбирается свойством {@code orchestration.idempotency.store}:
+ * {@code infinispan} (по умолчанию, {@link InfinispanIdempotencyStore}), {@code memory}
+ * ({@link InMemoryIdempotencyStore}) или {@code file} ({@link FileIdempotencyStore}).
+ * Условная замена выполняется по версии, которую хранилище меняет при каждой записи ключа.
+ * </p>
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Имя реализации для логов и тегов метрик.
+     */
+    String name();
+
+    /**
+     * Записи хранятся вне процесса, и локальная копия ({@code near-cache}) имеет смысл.
+     */
+    boolean remote();
+
+    Uni<IdempotencyEntry> get(String key);
+
+    Uni<Versioned> getVersioned(String key);
+
+    /**
+     * @return текущая запись, если ключ уже занят, иначе {@code null}
+     */
+    Uni<IdempotencyEntry> putIfAbsent(String key, IdempotencyEntry entry, Duration ttl);
+
+    /**
+     * @return {@code false}, если версия записи изменилась с момента чтения
+     */
+    Uni<Boolean> replace(String key, IdempotencyEntry entry, long version, Duration ttl);
+
+    Uni<Void> put(String key, IdempotencyEntry entry, Duration ttl);
+
+    /**
+     * Подписка на изменения ключей. Недоставленные события допустимы: подписчики
+     * ограничивают ожидание и перечитывают записи сами.
+     */
+    void addListener(Listener listener);
+
+    record Versioned(IdempotencyEntry entry, long version) {
+    }
+
+    interface Listener {
+
+        /**
+         * Ключ изменён, удалён или истёк.
+         */
+        void changed(String key);
+
+        /**
+         * События могли быть потеряны (например, при failover), состояние нужно считать неизвестным.
+         */
+        void reset();
+
+        /**
+         * Хранилище не сможет доставлять события; по умолчанию равносильно {@link #reset()}.
+         */
+        default void unavailable() {
+            reset();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.cx.model_registry.proxy.service.idempotency.store;
+
+import io.quarkus.arc.lookup.LookupIfProperty;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Хранение записей идемпотентности в памяти процесса, без Infinispan.
+ * <p>
+ * Подходит для одного экземпляра и нагрузочных тестов: записи не переживают перезапуск
+ * и не видны другим подам. Число записей ограничено {@code orchestration.idempotency.memory.max-size};
+ * при переполнении вытесняются самые давно записанные ключи без уведомления ожидающих.
+ * </p>
+ */
+@ApplicationScoped
+@LookupIfProperty(name = "orchestration.idempotency.store", stringValue = "memory")
+public class InMemoryIdempotencyStore extends LocalIdempotencyStore {
+
+    @ConfigProperty(name = "orchestration.idempotency.memory.max-size", defaultValue = "100000")
+    int maxSize;
+
+    private Map<String, Stored> entries;
+
+    public InMemoryIdempotencyStore() {
+        super(Clock.systemUTC());
+    }
+
+    public InMemoryIdempotencyStore(int maxSize, Clock clock) {
+        super(clock);
+        this.maxSize = maxSize;
+        init();
+    }
+
+    @PostConstruct
+    void init() {
+        entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Stored> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    protected Map<String, Stored> entries() {
+        return entries;
+    }
+}
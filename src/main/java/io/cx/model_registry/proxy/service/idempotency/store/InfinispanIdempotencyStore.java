@@ -0,0 +1,165 @@
+package io.cx.model_registry.proxy.service.idempotency.store;
+
+import io.cx.model_registry.proxy.service.idempotency.IdempotencyEntry;
+import io.quarkus.arc.lookup.LookupIfProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.RemoteCacheManager;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryExpired;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryModified;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryRemoved;
+import org.infinispan.client.hotrod.annotation.ClientCacheFailover;
+import org.infinispan.client.hotrod.annotation.ClientListener;
+import org.infinispan.client.hotrod.event.ClientCacheEntryExpiredEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryModifiedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryRemovedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheFailoverEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Хранение записей идемпотентности в удалённом кэше Infinispan ({@code orchestration.idempotency.cache-name}).
+ * <p>
+ * Версия записи — версия Hot Rod; события об изменении ключей приходят через client listener,
+ * который регистрируется при первом обращении к кэшу.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+@LookupIfProperty(name = "orchestration.idempotency.store", stringValue = "infinispan", lookupIfMissing = true)
+public class InfinispanIdempotencyStore implements IdempotencyStore {
+
+    @Inject
+    RemoteCacheManager remoteCacheManager;
+
+    @ConfigProperty(name = "orchestration.idempotency.cache-name", defaultValue = "workflow-idempotency")
+    String cacheName;
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final HotRodListener hotRodListener = new HotRodListener(listeners);
+    private volatile RemoteCache<String, IdempotencyEntry> cache;
+
+    @Override
+    public String name() {
+        return "infinispan";
+    }
+
+    @Override
+    public boolean remote() {
+        return true;
+    }
+
+    @Override
+    public Uni<IdempotencyEntry> get(String key) {
+        return Uni.createFrom().completionStage(() -> getCache().getAsync(key));
+    }
+
+    @Override
+    public Uni<Versioned> getVersioned(String key) {
+        return Uni.createFrom().completionStage(() -> getCache().getWithMetadataAsync(key))
+                .onItem().ifNotNull().transform(value -> new Versioned(value.getValue(), value.getVersion()));
+    }
+
+    @Override
+    public Uni<IdempotencyEntry> putIfAbsent(String key, IdempotencyEntry entry, Duration ttl) {
+        return Uni.createFrom().completionStage(() -> getCache().putIfAbsentAsync(
+                key,
+                entry,
+                ttl.toMillis(),
+                TimeUnit.MILLISECONDS
+        ));
+    }
+
+    @Override
+    public Uni<Boolean> replace(String key, IdempotencyEntry entry, long version, Duration ttl) {
+        return Uni.createFrom().completionStage(() -> getCache().replaceWithVersionAsync(
+                key,
+                entry,
+                version,
+                ttl.toMillis(),
+                TimeUnit.MILLISECONDS,
+                -1,
+                TimeUnit.MILLISECONDS
+        ));
+    }
+
+    @Override
+    public Uni<Void> put(String key, IdempotencyEntry entry, Duration ttl) {
+        return Uni.createFrom().completionStage(() -> getCache().putAsync(
+                key,
+                entry,
+                ttl.toMillis(),
+                TimeUnit.MILLISECONDS
+        )).replaceWithVoid();
+    }
+
+    @Override
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    private RemoteCache<String, IdempotencyEntry> getCache() {
+        RemoteCache<String, IdempotencyEntry> local = cache;
+        if (local == null) {
+            synchronized (this) {
+                local = cache;
+                if (local == null) {
+                    local = remoteCacheManager.getCache(cacheName);
+                    if (local == null) {
+                        throw new IllegalStateException(
+                                "Infinispan cache '" + cacheName + "' is not available. Create it or configure auto-create.");
+                    }
+                    try {
+                        local.addClientListener(hotRodListener);
+                    } catch (RuntimeException e) {
+                        log.warn("Unable to register idempotency cache listener, change events disabled: {}", e.getMessage());
+                        listeners.forEach(Listener::unavailable);
+                    }
+                    cache = local;
+                }
+            }
+        }
+        return local;
+    }
+
+    @ClientListener
+    public static class HotRodListener {
+
+        private final List<Listener> listeners;
+
+        HotRodListener(List<Listener> listeners) {
+            this.listeners = listeners;
+        }
+
+        @ClientCacheEntryModified
+        public void onModified(ClientCacheEntryModifiedEvent<String> event) {
+            changed(event.getKey());
+        }
+
+        @ClientCacheEntryRemoved
+        public void onRemoved(ClientCacheEntryRemovedEvent<String> event) {
+            changed(event.getKey());
+        }
+
+        @ClientCacheEntryExpired
+        public void onExpired(ClientCacheEntryExpiredEvent<String> event) {
+            changed(event.getKey());
+        }
+
+        @ClientCacheFailover
+        public void onFailover(ClientCacheFailoverEvent event) {
+            listeners.forEach(Listener::reset);
+        }
+
+        private void changed(String key) {
+            listeners.forEach(listener -> listener.changed(key));
+        }
+    }
+}
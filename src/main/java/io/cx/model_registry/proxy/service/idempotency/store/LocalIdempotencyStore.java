@@ -0,0 +1,149 @@
+package io.cx.model_registry.proxy.service.idempotency.store;
+
+import io.cx.model_registry.proxy.service.idempotency.IdempotencyEntry;
+import io.smallrye.mutiny.Uni;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Основа хранилищ в памяти процесса.
+ * <p>
+ * Операции выполняются под монитором хранилища, поэтому проверка версии и запись атомарны.
+ * Истёкшие записи удаляются при обращении к ключу. Подписчики уведомляются после выхода
+ * из монитора, так как их продолжения могут выполняться в том же потоке.
+ * </p>
+ */
+public abstract class LocalIdempotencyStore implements IdempotencyStore {
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    protected final Clock clock;
+    private long lastVersion;
+
+    protected LocalIdempotencyStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Записи по ключу; доступ только под монитором хранилища.
+     */
+    protected abstract Map<String, Stored> entries();
+
+    /**
+     * Вызывается под монитором до изменения ключа в {@link #entries()}; исключение отменяет изменение,
+     * поэтому записи в памяти не расходятся с долговременным хранилищем.
+     */
+    protected void append(String key, Stored stored) {
+    }
+
+    /**
+     * Выполнение операции хранилища при подписке; наследники с блокирующим вводом-выводом
+     * переносят его с event loop.
+     */
+    protected <T> Uni<T> execute(Supplier<T> operation) {
+        return Uni.createFrom().item(operation);
+    }
+
+    /**
+     * Продолжает нумерацию версий после восстановления записей; вызывается под монитором.
+     */
+    protected void restoredVersion(long version) {
+        lastVersion = Math.max(lastVersion, version);
+    }
+
+    @Override
+    public boolean remote() {
+        return false;
+    }
+
+    @Override
+    public Uni<IdempotencyEntry> get(String key) {
+        return getVersioned(key).onItem().ifNotNull().transform(Versioned::entry);
+    }
+
+    @Override
+    public Uni<Versioned> getVersioned(String key) {
+        return execute(() -> {
+            synchronized (this) {
+                Stored stored = live(key);
+                return stored == null ? null : new Versioned(stored.entry(), stored.version());
+            }
+        });
+    }
+
+    @Override
+    public Uni<IdempotencyEntry> putIfAbsent(String key, IdempotencyEntry entry, Duration ttl) {
+        return execute(() -> {
+            synchronized (this) {
+                Stored stored = live(key);
+                if (stored != null) {
+                    return stored.entry();
+                }
+                store(key, entry, ttl);
+            }
+            notifyChanged(key);
+            return null;
+        });
+    }
+
+    @Override
+    public Uni<Boolean> replace(String key, IdempotencyEntry entry, long version, Duration ttl) {
+        return execute(() -> {
+            synchronized (this) {
+                Stored stored = live(key);
+                if (stored == null || stored.version() != version) {
+                    return false;
+                }
+                store(key, entry, ttl);
+            }
+            notifyChanged(key);
+            return true;
+        });
+    }
+
+    @Override
+    public Uni<Void> put(String key, IdempotencyEntry entry, Duration ttl) {
+        return execute(() -> {
+            synchronized (this) {
+                store(key, entry, ttl);
+            }
+            notifyChanged(key);
+            return null;
+        });
+    }
+
+    @Override
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    private Stored live(String key) {
+        Stored stored = entries().get(key);
+        if (stored != null && stored.expired(clock.millis())) {
+            entries().remove(key);
+            return null;
+        }
+        return stored;
+    }
+
+    private void store(String key, IdempotencyEntry entry, Duration ttl) {
+        Stored stored = new Stored(entry, ++lastVersion, clock.millis() + ttl.toMillis());
+        append(key, stored);
+        entries().put(key, stored);
+    }
+
+    private void notifyChanged(String key) {
+        listeners.forEach(listener -> listener.changed(key));
+    }
+
+    public record Stored(IdempotencyEntry entry, long version, long expiresAtEpochMs) {
+
+        public boolean expired(long nowEpochMs) {
+            return nowEpochMs >= expiresAtEpochMs;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.cx.model_registry.proxy.service.ordering;
+
+import io.cx.model_registry.proxy.exceptions.CommandQueueRejectedException;
+import io.cx.model_registry.proxy.utils.KeyedSerialExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Упорядочивание команд по агрегату.
+ * <p>
+ * Команды с одним идентификатором агрегата (модель, версия модели, артефакт) выполняются
+ * по одной в порядке поступления, команды разных агрегатов и команды без идентификатора —
+ * параллельно. Очередь агрегата ограничена {@code proxy.ordering.max-queued-per-key}.
+ * Метрики: {@code registry.commands.ordering.queued}, {@code registry.commands.ordering.keys},
+ * {@code registry.commands.ordering.wait} и {@code registry.commands.ordering.rejected}.
+ * </p>
+ */
+@ApplicationScoped
+public class CommandSequencer {
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "proxy.ordering.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "proxy.ordering.max-queued-per-key", defaultValue = "32")
+    int maxQueuedPerKey;
+
+    private KeyedSerialExecutor<String> executor;
+
+    @PostConstruct
+    void init() {
+        Counter rejected = meterRegistry.counter("registry.commands.ordering.rejected");
+        Timer wait = meterRegistry.timer("registry.commands.ordering.wait");
+        executor = new KeyedSerialExecutor<>(
+                maxQueuedPerKey,
+                key -> {
+                    rejected.increment();
+                    return new CommandQueueRejectedException(key);
+                },
+                nanos -> wait.record(nanos, TimeUnit.NANOSECONDS)
+        );
+        Gauge.builder("registry.commands.ordering.queued", executor, KeyedSerialExecutor::queued)
+                .register(meterRegistry);
+        Gauge.builder("registry.commands.ordering.keys", executor, KeyedSerialExecutor::activeKeys)
+                .register(meterRegistry);
+    }
+
+    public <T> Uni<T> execute(String aggregate, String aggregateId, Supplier<Uni<T>> call) {
+        if (!enabled || aggregateId == null || aggregateId.isBlank()) {
+            return Uni.createFrom().deferred(call);
+        }
+        return executor.execute(aggregate + ':' + aggregateId, call);
+    }
+}
@@ -0,0 +1,18 @@
+package io.cx.model_registry.proxy.service.pagination;
+
+import io.cx.model_registry.proxy.dto.BaseResourceList;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Загрузка одной страницы списка Model Registry по токену продолжения.
+ *
+ * @param <T> тип элемента страницы
+ */
+@FunctionalInterface
+public interface PageFetcher<T> {
+
+    /**
+     * @param nextPageToken токен следующей страницы; {@code null} для первой страницы
+     */
+    Uni<? extends BaseResourceList<T>> fetch(String nextPageToken);
+}
@@ -0,0 +1,62 @@
+package io.cx.model_registry.proxy.service.pagination;
+
+import io.cx.model_registry.proxy.dto.BaseResourceList;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Потоковый обход списочных эндпоинтов Model Registry по {@code nextPageToken}.
+ * <p>
+ * Страницы запрашиваются последовательно и только по запросу подписчика (backpressure).
+ * Пока потребляется страница N, заранее загружается не более {@code maxBufferedPages}
+ * следующих страниц, поэтому в памяти одновременно находится ограниченное число страниц.
+ * </p>
+ */
+public final class Paginator {
+
+    private Paginator() {
+    }
+
+    public static <T> Multi<T> stream(PageFetcher<T> fetcher, int maxBufferedPages) {
+        return stream(fetcher, maxBufferedPages, Infrastructure.getDefaultWorkerPool());
+    }
+
+    public static <T> Multi<T> stream(PageFetcher<T> fetcher, int maxBufferedPages, Executor executor) {
+        return pages(fetcher)
+                .emitOn(executor, Math.max(1, maxBufferedPages))
+                .onItem().transformToIterable(page -> page);
+    }
+
+    /**
+     * Последовательность элементов страниц без буферизации: следующая страница загружается
+     * только после запроса очередного элемента.
+     */
+    public static <T> Multi<List<T>> pages(PageFetcher<T> fetcher) {
+        return Multi.createBy().repeating()
+                .uni(() -> new AtomicReference<String>(),
+                        token -> fetcher.fetch(token.get())
+                                .map(page -> toPage(token, page)))
+                .whilst(page -> !page.last())
+                .map(Page::items);
+    }
+
+    private static <T> Page<T> toPage(AtomicReference<String> token, BaseResourceList<T> list) {
+        if (list == null) {
+            return new Page<>(List.of(), true);
+        }
+        List<T> items = list.items() == null ? List.of() : list.items();
+        String next = list.nextPageToken();
+        // Пустая страница или повтор токена означают конец списка, иначе обход зациклится.
+        boolean last = next == null || next.isBlank() || items.isEmpty() || Objects.equals(next, token.get());
+        token.set(next);
+        return new Page<>(items, last);
+    }
+
+    private record Page<T>(List<T> items, boolean last) {
+    }
+}
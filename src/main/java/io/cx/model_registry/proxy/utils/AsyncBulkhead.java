@@ -0,0 +1,133 @@
+package io.cx.model_registry.proxy.utils;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+/**
+ * Неблокирующий bulkhead для {@link Uni}: не более {@code maxConcurrent} выполняющихся вызовов
+ * и не более {@code maxQueued} ожидающих. Вызовы сверх очереди сразу завершаются ошибкой
+ * из {@code rejection}.
+ */
+public final class AsyncBulkhead {
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Supplier<? extends RuntimeException> rejection;
+
+    private final Deque<Pending<?>> queue = new ArrayDeque<>();
+    private int inFlight;
+
+    public AsyncBulkhead(int maxConcurrent, int maxQueued, Supplier<? extends RuntimeException> rejection) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxQueued = Math.max(0, maxQueued);
+        this.rejection = rejection;
+    }
+
+    public <T> Uni<T> execute(Supplier<Uni<T>> call) {
+        return Uni.createFrom().emitter(emitter -> {
+            Pending<T> pending = new Pending<>(call, emitter);
+            boolean start;
+            synchronized (this) {
+                if (inFlight < maxConcurrent) {
+                    inFlight++;
+                    start = true;
+                } else if (queue.size() < maxQueued) {
+                    queue.addLast(pending);
+                    start = false;
+                } else {
+                    emitter.fail(rejection.get());
+                    return;
+                }
+            }
+            emitter.onTermination(() -> cancel(pending));
+            if (start) {
+                pending.run();
+            }
+        });
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    public synchronized int queued() {
+        return queue.size();
+    }
+
+    private void cancel(Pending<?> pending) {
+        boolean removed;
+        synchronized (this) {
+            removed = queue.remove(pending);
+        }
+        if (!removed) {
+            pending.cancel();
+        }
+    }
+
+    private void release() {
+        Pending<?> next;
+        synchronized (this) {
+            next = queue.pollFirst();
+            if (next == null) {
+                inFlight--;
+            }
+        }
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    private final class Pending<T> {
+        private final Supplier<Uni<T>> call;
+        private final UniEmitter<? super T> emitter;
+        private Cancellable subscription;
+        private boolean released;
+
+        private Pending(Supplier<Uni<T>> call, UniEmitter<? super T> emitter) {
+            this.call = call;
+            this.emitter = emitter;
+        }
+
+        private void run() {
+            Uni<T> uni;
+            try {
+                uni = call.get();
+            } catch (Throwable failure) {
+                releaseOnce();
+                emitter.fail(failure);
+                return;
+            }
+            Cancellable cancellable = uni
+                    .onTermination().invoke(this::releaseOnce)
+                    .subscribe().with(emitter::complete, emitter::fail);
+            synchronized (this) {
+                subscription = cancellable;
+            }
+        }
+
+        private void cancel() {
+            Cancellable cancellable;
+            synchronized (this) {
+                cancellable = subscription;
+            }
+            if (cancellable != null) {
+                cancellable.cancel();
+            }
+        }
+
+        private void releaseOnce() {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            release();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.cx.model_registry.proxy.utils;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Последовательное выполнение {@link Uni} в пределах ключа и параллельное — между ключами.
+ * <p>
+ * Для каждого ключа одновременно выполняется не более одного вызова, остальные ждут в очереди
+ * не длиннее {@code maxQueuedPerKey}; вызовы сверх неё сразу завершаются ошибкой из {@code rejection}.
+ * Очередь ключа удаляется, когда она пуста, поэтому память пропорциональна числу активных ключей.
+ * Время ожидания каждого вызова в наносекундах передаётся в {@code waitRecorder}.
+ * </p>
+ */
+public final class KeyedSerialExecutor<K> {
+
+    private static final int START = 0;
+    private static final int QUEUED = 1;
+    private static final int REJECTED = 2;
+
+    private final int maxQueuedPerKey;
+    private final Function<? super K, ? extends RuntimeException> rejection;
+    private final LongConsumer waitRecorder;
+
+    private final Map<K, Deque<Task<?>>> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    public KeyedSerialExecutor(
+            int maxQueuedPerKey,
+            Function<? super K, ? extends RuntimeException> rejection,
+            LongConsumer waitRecorder
+    ) {
+        this.maxQueuedPerKey = Math.max(0, maxQueuedPerKey);
+        this.rejection = rejection;
+        this.waitRecorder = waitRecorder;
+    }
+
+    public <T> Uni<T> execute(K key, Supplier<Uni<T>> call) {
+        return Uni.createFrom().emitter(emitter -> {
+            Task<T> task = new Task<>(key, call, emitter);
+            // Наличие очереди ключа означает, что по нему уже выполняется вызов.
+            int[] outcome = new int[1];
+            lanes.compute(key, (k, lane) -> {
+                if (lane == null) {
+                    outcome[0] = START;
+                    return new ArrayDeque<>();
+                }
+                if (lane.size() < maxQueuedPerKey) {
+                    lane.addLast(task);
+                    queued.incrementAndGet();
+                    outcome[0] = QUEUED;
+                } else {
+                    outcome[0] = REJECTED;
+                }
+                return lane;
+            });
+
+            if (outcome[0] == REJECTED) {
+                emitter.fail(rejection.apply(key));
+                return;
+            }
+            emitter.onTermination(() -> cancel(task));
+            if (outcome[0] == START) {
+                task.run();
+            }
+        });
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+
+    public int activeKeys() {
+        return lanes.size();
+    }
+
+    private void cancel(Task<?> task) {
+        boolean[] removed = new boolean[1];
+        lanes.computeIfPresent(task.key, (k, lane) -> {
+            removed[0] = lane.remove(task);
+            return lane;
+        });
+        if (removed[0]) {
+            queued.decrementAndGet();
+        } else {
+            task.cancel();
+        }
+    }
+
+    private void release(K key) {
+        Object[] next = new Object[1];
+        lanes.computeIfPresent(key, (k, lane) -> {
+            Task<?> polled = lane.pollFirst();
+            if (polled == null) {
+                return null;
+            }
+            next[0] = polled;
+            return lane;
+        });
+        if (next[0] != null) {
+            queued.decrementAndGet();
+            ((Task<?>) next[0]).run();
+        }
+    }
+
+    private final class Task<T> {
+        private final K key;
+        private final Supplier<Uni<T>> call;
+        private final UniEmitter<? super T> emitter;
+        private final long enqueuedAt = System.nanoTime();
+        private Cancellable subscription;
+        private boolean released;
+
+        private Task(K key, Supplier<Uni<T>> call, UniEmitter<? super T> emitter) {
+            this.key = key;
+            this.call = call;
+            this.emitter = emitter;
+        }
+
+        private void run() {
+            waitRecorder.accept(System.nanoTime() - enqueuedAt);
+            Uni<T> uni;
+            try {
+                uni = call.get();
+            } catch (Throwable failure) {
+                releaseOnce();
+                emitter.fail(failure);
+                return;
+            }
+            Cancellable cancellable = uni
+                    .onTermination().invoke(this::releaseOnce)
+                    .subscribe().with(emitter::complete, emitter::fail);
+            synchronized (this) {
+                subscription = cancellable;
+            }
+        }
+
+        private void cancel() {
+            Cancellable cancellable;
+            synchronized (this) {
+                cancellable = subscription;
+            }
+            if (cancellable != null) {
+                cancellable.cancel();
+            }
+        }
+
+        private void releaseOnce() {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            release(key);
+        }
+    }
+}
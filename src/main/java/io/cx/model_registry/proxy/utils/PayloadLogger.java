@@ -0,0 +1,130 @@
+package io.cx.model_registry.proxy.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.funqy.knative.events.CloudEvent;
+import io.vertx.core.json.JsonObject;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Логирование полезной нагрузки на уровне DEBUG.
+ * <p>
+ * Сериализация выполняется только если уровень включён и сообщение попало в выборку
+ * (каждое {@code sampleEvery}-е). Результат — компактный JSON, обрезанный до {@code maxChars}
+ * символов; сериализация прерывается вскоре после достижения лимита.
+ * Строка формируется в вызывающем потоке, поэтому асинхронный обработчик лога
+ * не обращается к изменяемым объектам.
+ * </p>
+ */
+public final class PayloadLogger {
+
+    static final String TRUNCATED = "...(truncated)";
+
+    private final Logger logger;
+    private final ObjectMapper objectMapper;
+    private final int maxChars;
+    private final long sampleEvery;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    public PayloadLogger(Logger logger, ObjectMapper objectMapper, int maxChars, long sampleEvery) {
+        this.logger = logger;
+        this.objectMapper = objectMapper;
+        this.maxChars = maxChars;
+        this.sampleEvery = sampleEvery;
+    }
+
+    public void debug(String message, Object payload) {
+        if (sampleEvery <= 0 || !logger.isDebugEnabled() || !sampled()) {
+            return;
+        }
+        logger.debug("{} [{}]", message, render(payload));
+    }
+
+    boolean sampled() {
+        return sampleEvery == 1 || counter.getAndIncrement() % sampleEvery == 0;
+    }
+
+    String render(Object payload) {
+        Object value = unwrap(payload);
+        BoundedWriter writer = new BoundedWriter(maxChars);
+        try {
+            objectMapper.writeValue(writer, value);
+        } catch (IOException e) {
+            if (!writer.truncated) {
+                return truncate(String.valueOf(payload));
+            }
+        }
+        return writer.truncated ? writer.buffer + TRUNCATED : writer.buffer.toString();
+    }
+
+    private String truncate(String value) {
+        return value.length() <= maxChars ? value : value.substring(0, maxChars) + TRUNCATED;
+    }
+
+    private static Object unwrap(Object payload) {
+        if (payload instanceof JsonObject json) {
+            return json.getMap();
+        }
+        if (payload instanceof CloudEvent<?> event) {
+            Map<String, Object> value = new LinkedHashMap<>();
+            value.put("id", event.id());
+            value.put("type", event.type());
+            value.put("source", event.source());
+            value.put("subject", event.subject());
+            value.put("data", unwrap(event.data()));
+            return value;
+        }
+        return payload;
+    }
+
+    private static final class BoundedWriter extends Writer {
+
+        private static final IOException LIMIT_REACHED = new LimitReachedException();
+
+        private final StringBuilder buffer;
+        private final int limit;
+        private boolean truncated;
+
+        private BoundedWriter(int limit) {
+            this.limit = limit;
+            this.buffer = new StringBuilder(Math.min(limit, 256));
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int remaining = limit - buffer.length();
+            if (length > remaining) {
+                buffer.append(chars, offset, remaining);
+                truncated = true;
+                throw LIMIT_REACHED;
+            }
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class LimitReachedException extends IOException {
+
+        private LimitReachedException() {
+            super("Payload log limit reached");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.cx.model_registry.proxy.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+
+/**
+ * Фабрика {@link PayloadLogger} по категориям.
+ * <p>
+ * Лимит и частота выборки задаются глобально ({@code proxy.logging.payload.max-chars},
+ * {@code proxy.logging.payload.sample-every}) и переопределяются для категории через
+ * {@code proxy.logging.payload.categories.<category>.*}. {@code sample-every=0} отключает категорию.
+ * </p>
+ */
+@ApplicationScoped
+public class PayloadLogging {
+
+    private static final String PREFIX = "proxy.logging.payload.";
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    Config config;
+
+    @ConfigProperty(name = "proxy.logging.payload.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "proxy.logging.payload.max-chars", defaultValue = "1024")
+    int maxChars;
+
+    @ConfigProperty(name = "proxy.logging.payload.sample-every", defaultValue = "1")
+    long sampleEvery;
+
+    public PayloadLogger logger(String category, Logger logger) {
+        String categoryPrefix = PREFIX + "categories." + category + ".";
+        int categoryMaxChars = config.getOptionalValue(categoryPrefix + "max-chars", Integer.class)
+                .orElse(maxChars);
+        long categorySampleEvery = config.getOptionalValue(categoryPrefix + "sample-every", Long.class)
+                .orElse(sampleEvery);
+        return new PayloadLogger(logger, objectMapper, categoryMaxChars, enabled ? categorySampleEvery : 0);
+    }
+}
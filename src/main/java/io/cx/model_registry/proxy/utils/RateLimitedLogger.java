@@ -0,0 +1,68 @@
+package io.cx.model_registry.proxy.utils;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Ограничение частоты однотипных сообщений в логе.
+ * <p>
+ * В каждом окне {@code window} пишется не более {@code permitsPerWindow} сообщений,
+ * остальные отбрасываются; их количество добавляется к первому сообщению следующего окна.
+ * </p>
+ */
+public final class RateLimitedLogger {
+
+    private final Logger logger;
+    private final long windowNanos;
+    private final long permitsPerWindow;
+    private final LongSupplier nanoTime;
+
+    private final AtomicLong windowStart;
+    private final AtomicLong permitsUsed = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public RateLimitedLogger(Logger logger, Duration window, long permitsPerWindow) {
+        this(logger, window, permitsPerWindow, System::nanoTime);
+    }
+
+    RateLimitedLogger(Logger logger, Duration window, long permitsPerWindow, LongSupplier nanoTime) {
+        this.logger = logger;
+        this.windowNanos = window.toNanos();
+        this.permitsPerWindow = permitsPerWindow;
+        this.nanoTime = nanoTime;
+        this.windowStart = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    public void error(String format, Object... arguments) {
+        if (!logger.isErrorEnabled()) {
+            return;
+        }
+        long dropped = acquire();
+        if (dropped < 0) {
+            return;
+        }
+        logger.error(format, arguments);
+        if (dropped > 0) {
+            logger.error("{} similar messages were suppressed", dropped);
+        }
+    }
+
+    /**
+     * @return число подавленных с прошлого окна сообщений, либо {@code -1}, если сообщение нужно отбросить
+     */
+    long acquire() {
+        long now = nanoTime.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            permitsUsed.set(0);
+        }
+        if (permitsUsed.incrementAndGet() > permitsPerWindow) {
+            suppressed.incrementAndGet();
+            return -1;
+        }
+        return suppressed.getAndSet(0);
+    }
+}
@@ -3,19 +3,18 @@ package io.cx.model_registry.proxy.utils;
 import io.cx.model_registry.proxy.exceptions.RestClientException;
 import jakarta.ws.rs.core.Response;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.Optional;
-import java.util.Scanner;
 
 import static java.util.Optional.ofNullable;
 import static java.util.function.Predicate.not;
 
 public class RestClientExceptionUtils {
     private static String MESSAGE_TEMPLATE = "REST client error: HTTP %d %s%nBody: %s";
-    private static String A = "\\A";
+    private static String TRUNCATED = "...[truncated]";
     private static String EMPTY_STRING = "";
     private static String UNKNOWN_EXCEPTION = """
             Unknown cause; possible server connection issue or unsupported protocol version.
@@ -44,17 +43,32 @@ public class RestClientExceptionUtils {
     }
 
     public static String extractBody(Response response) {
-        return ofNullable(response)
-                .filter(Response::hasEntity)
-                .map(r -> {
-                    try (ByteArrayInputStream stream = new ByteArrayInputStream(r.readEntity(byte[].class))) {
-                        Scanner scanner = new Scanner(stream, StandardCharsets.UTF_8).useDelimiter(A);
-                        return scanner.hasNext() ? scanner.next() : EMPTY_STRING;
-                    } catch (IOException e) {
-                        return EMPTY_STRING;
-                    }
-                })
-                .orElse(EMPTY_STRING);
+        return extractBody(response, Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * Чтение тела ответа, ограниченное {@code maxBytes} байтами; усечённое тело помечается суффиксом.
+     */
+    public static String extractBody(Response response, int maxBytes) {
+        if (response == null || !response.hasEntity() || maxBytes <= 0) {
+            return EMPTY_STRING;
+        }
+        try (InputStream stream = response.readEntity(InputStream.class)) {
+            return readBounded(stream, maxBytes);
+        } catch (IOException | RuntimeException e) {
+            return EMPTY_STRING;
+        }
+    }
+
+    static String readBounded(InputStream stream, int maxBytes) throws IOException {
+        if (stream == null) {
+            return EMPTY_STRING;
+        }
+        byte[] bytes = stream.readNBytes(maxBytes + 1);
+        if (bytes.length > maxBytes) {
+            return new String(bytes, 0, maxBytes, StandardCharsets.UTF_8) + TRUNCATED;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
     }
 
     public static String logDetailedError(RestClientException exception) {
@@ -0,0 +1,50 @@
+package io.cx.model_registry.proxy.utils;
+
+import io.smallrye.mutiny.Uni;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Объединение одинаковых одновременных запросов (single-flight).
+ * <p>
+ * Пока запрос с ключом {@code K} выполняется, последующие вызовы с тем же ключом
+ * получают тот же {@link Uni} и не порождают новых обращений. После завершения
+ * запроса ключ освобождается, поэтому результат не кэшируется дольше времени выполнения.
+ * </p>
+ *
+ * @param <K> тип ключа запроса
+ */
+public final class SingleFlight<K> {
+
+    private final Map<K, Uni<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Выполняет запрос либо присоединяется к уже выполняющемуся.
+     *
+     * @param key         ключ запроса
+     * @param call        фабрика запроса; вызывается только если запрос с таким ключом не выполняется
+     * @param onCoalesced вызывается, когда вызывающий присоединился к существующему запросу
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Uni<T> execute(K key, Supplier<Uni<T>> call, Runnable onCoalesced) {
+        AtomicReference<Uni<T>> created = new AtomicReference<>();
+        Uni<?> shared = inFlight.computeIfAbsent(key, k -> {
+            Uni<T> flight = call.get()
+                    .onTermination().invoke(() -> inFlight.remove(k, created.get()))
+                    .memoize().indefinitely();
+            created.set(flight);
+            return flight;
+        });
+        if (shared != created.get()) {
+            onCoalesced.run();
+        }
+        return (Uni<T>) shared;
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,31 @@
+package io.cx.model_registry.proxy.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CborTranscodingSerializerTest {
+
+    @Test
+    void serialize_shouldProduceEquivalentCborAndAdvertiseContentType() throws Exception {
+        String json = "{\"items\":[{\"id\":\"1\",\"name\":\"model\",\"labels\":[\"a\",\"b\"],\"size\":42}],"
+                + "\"nextPageToken\":null,\"pageSize\":100}";
+        RecordHeaders headers = new RecordHeaders();
+        headers.add("content-type", "application/json".getBytes(StandardCharsets.UTF_8));
+
+        byte[] encoded = new CborTranscodingSerializer()
+                .serialize("topic", headers, json.getBytes(StandardCharsets.UTF_8));
+
+        JsonNode decoded = new CBORMapper().readTree(encoded);
+        assertThat(decoded).isEqualTo(new ObjectMapper().readTree(json));
+        assertThat(encoded.length).isLessThan(json.length());
+        assertThat(new String(headers.lastHeader("content-type").value(), StandardCharsets.UTF_8))
+                .isEqualTo(CborTranscodingSerializer.CBOR_CONTENT_TYPE);
+    }
+}
@@ -0,0 +1,106 @@
+package io.cx.model_registry.proxy.client;
+
+import io.cx.model_registry.proxy.exceptions.RestClientException;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.interceptor.InvocationContext;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ClientMetrics metrics = new ClientMetrics();
+    private final ClientMetricsInterceptor interceptor = new ClientMetricsInterceptor();
+    private final ResponseSizeFilter filter = new ResponseSizeFilter();
+    private Method getRegisteredModel;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        metrics.meterRegistry = registry;
+        interceptor.metrics = metrics;
+        filter.metrics = metrics;
+        getRegisteredModel = ModelClient.class.getMethod("getRegisteredModel", String.class);
+    }
+
+    @Test
+    void requests_shouldBeTaggedByOperationAndStatusClassOnly() throws Exception {
+        for (int i = 0; i < 200; i++) {
+            int status = 200 + i * 3 % 400;
+            Uni<Object> upstream = status < 400
+                    ? Uni.createFrom().item("model-" + i)
+                    : Uni.createFrom().failure(new RestClientException("failed").status(status).url("/models/" + i));
+            invoke(getRegisteredModel, "model-" + i, upstream);
+        }
+        invoke(getRegisteredModel, "broken", Uni.createFrom().failure(new IllegalStateException("connection reset")));
+
+        Collection<Meter> timers = registry.find(ClientMetrics.REQUESTS).meters();
+        assertThat(tagValues(timers, "operation")).containsExactly("ModelClient.getRegisteredModel");
+        assertThat(tagValues(timers, "status")).isSubsetOf("2xx", "3xx", "4xx", "5xx", "error", "cancelled");
+        assertThat(timers).hasSizeLessThanOrEqualTo(6);
+        assertThat(registry.find(ClientMetrics.IN_FLIGHT).meters()).hasSize(1);
+    }
+
+    @Test
+    void responseSize_shouldBeTaggedByOperationOnly() {
+        for (int i = 0; i < 100; i++) {
+            filter.filter(request(getRegisteredModel), response(i * 10));
+        }
+        filter.filter(request(null), response(10));
+        filter.filter(request(getRegisteredModel), response(-1));
+
+        Collection<Meter> sizes = registry.find(ClientMetrics.RESPONSE_SIZE).meters();
+        assertThat(tagValues(sizes, "operation"))
+                .containsExactlyInAnyOrder("ModelClient.getRegisteredModel", ClientOperations.UNKNOWN);
+        assertThat(registry.get(ClientMetrics.RESPONSE_SIZE).tag("operation", "ModelClient.getRegisteredModel")
+                .summary().count()).isEqualTo(100);
+    }
+
+    private void invoke(Method method, Object argument, Uni<Object> upstream) throws Exception {
+        InvocationContext context = proxy(InvocationContext.class, (name, args) -> switch (name) {
+            case "getMethod" -> method;
+            case "getParameters" -> new Object[]{argument};
+            case "proceed" -> upstream;
+            default -> null;
+        });
+        @SuppressWarnings("unchecked")
+        Uni<Object> call = (Uni<Object>) interceptor.measure(context);
+        call.onFailure().recoverWithNull().await().indefinitely();
+    }
+
+    private static ClientRequestContext request(Method invoked) {
+        return proxy(ClientRequestContext.class,
+                (name, args) -> "getProperty".equals(name) ? invoked : null);
+    }
+
+    private static ClientResponseContext response(int length) {
+        return proxy(ClientResponseContext.class,
+                (name, args) -> "getLength".equals(name) ? length : null);
+    }
+
+    private static Set<String> tagValues(Collection<Meter> meters, String tag) {
+        return meters.stream()
+                .map(meter -> meter.getId().getTag(tag))
+                .collect(Collectors.toSet());
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (instance, method, args) -> handler.handle(method.getName(), args)));
+    }
+
+    private interface Handler {
+        Object handle(String method, Object[] args);
+    }
+}
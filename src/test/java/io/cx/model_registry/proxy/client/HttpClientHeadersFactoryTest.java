@@ -0,0 +1,119 @@
+package io.cx.model_registry.proxy.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpClientHeadersFactoryTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final Deque<Runnable> scheduled = new ArrayDeque<>();
+    private final AtomicInteger exchanges = new AtomicInteger();
+    private final AtomicBoolean failing = new AtomicBoolean();
+    private HttpClientHeadersFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        factory = new HttpClientHeadersFactory();
+        factory.token = Optional.of("source");
+        factory.username = Optional.empty();
+        factory.password = Optional.empty();
+        factory.tokenFile = Optional.empty();
+        factory.refreshInterval = Duration.ofSeconds(30);
+        factory.refreshExecutor = scheduled::add;
+        factory.exchanger = subjectToken -> {
+            if (failing.get()) {
+                throw new IllegalStateException("token endpoint unavailable");
+            }
+            int n = exchanges.incrementAndGet();
+            return new TokenExchange.ExchangedToken("access-" + n, at(60 * n));
+        };
+        at(0, factory);
+        factory.init();
+    }
+
+    @Test
+    void authorization_shouldReturnCachedValueUntilRefreshIsDue() {
+        at(10, factory);
+
+        assertThat(factory.authorization()).isEqualTo("Bearer access-1");
+        assertThat(scheduled).isEmpty();
+        assertThat(exchanges).hasValue(1);
+    }
+
+    @Test
+    void authorization_shouldExchangeInBackgroundWhenTokenNearsExpiry() {
+        at(31, factory);
+
+        assertThat(factory.authorization()).isEqualTo("Bearer access-1");
+        assertThat(factory.authorization()).isEqualTo("Bearer access-1");
+        assertThat(scheduled).hasSize(1);
+
+        scheduled.poll().run();
+
+        assertThat(exchanges).hasValue(2);
+        assertThat(factory.authorization()).isEqualTo("Bearer access-2");
+        assertThat(scheduled).isEmpty();
+    }
+
+    @Test
+    void authorization_shouldBackOffWhileRefreshKeepsFailing() {
+        failing.set(true);
+
+        at(31, factory);
+        factory.authorization();
+        scheduled.poll().run();
+
+        at(31.5, factory);
+        assertThat(factory.authorization()).isEqualTo("Bearer access-1");
+        assertThat(scheduled).isEmpty();
+
+        at(32, factory);
+        factory.authorization();
+        scheduled.poll().run();
+
+        at(33, factory);
+        factory.authorization();
+        assertThat(scheduled).isEmpty();
+
+        at(34, factory);
+        factory.authorization();
+        assertThat(scheduled).hasSize(1);
+        assertThat(exchanges).hasValue(1);
+    }
+
+    @Test
+    void authorization_shouldRecoverAfterFailures() {
+        failing.set(true);
+        at(31, factory);
+        factory.authorization();
+        scheduled.poll().run();
+
+        failing.set(false);
+        at(32, factory);
+        factory.authorization();
+        scheduled.poll().run();
+
+        assertThat(factory.authorization()).isEqualTo("Bearer access-2");
+    }
+
+    private static Instant at(double seconds) {
+        return T0.plusMillis((long) (seconds * 1000));
+    }
+
+    private static void at(double seconds, HttpClientHeadersFactory factory) {
+        factory.clock = Clock.fixed(at(seconds), ZoneOffset.UTC);
+    }
+}
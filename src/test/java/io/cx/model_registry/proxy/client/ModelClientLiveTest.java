@@ -7,6 +7,7 @@ import io.cx.model_registry.proxy.dto.models.RegisteredModelState;
 import io.cx.model_registry.proxy.dto.models.RegisteredModelUpdate;
 import io.cx.model_registry.proxy.dto.versions.ModelVersion;
 import io.cx.model_registry.proxy.dto.versions.ModelVersionList;
+import io.cx.model_registry.proxy.service.cache.RegistryEntityCaches;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Response;
@@ -68,6 +69,17 @@ class ModelClientLiveTest {
         assertThat(loaded).isNotNull();
         assertThat(loaded.id()).isEqualTo(created.id());
 
+        RegisteredModelList unchangedProbe = modelClient.getRegisteredModels(
+                        RegistryEntityCaches.revalidationFilter(loaded.id(), loaded),
+                        1,
+                        "ID",
+                        "ASC",
+                        null
+                )
+                .await()
+                .atMost(Duration.ofSeconds(30));
+        assertThat(RegistryEntityCaches.isModified(unchangedProbe)).isFalse();
+
         RegisteredModelUpdate update = new RegisteredModelUpdate();
         update.description(updatedDescription);
         update.owner("qa-live-updated");
@@ -80,6 +92,17 @@ class ModelClientLiveTest {
         assertThat(updated.id()).isEqualTo(created.id());
         assertThat(updated.description()).isEqualTo(updatedDescription);
 
+        RegisteredModelList modifiedProbe = modelClient.getRegisteredModels(
+                        RegistryEntityCaches.revalidationFilter(loaded.id(), loaded),
+                        1,
+                        "ID",
+                        "ASC",
+                        null
+                )
+                .await()
+                .atMost(Duration.ofSeconds(30));
+        assertThat(modifiedProbe.items()).extracting(RegisteredModel::id).containsExactly(created.id());
+
         RegisteredModelList list = modelClient.getRegisteredModels(
                         null,
                         100,
@@ -0,0 +1,32 @@
+package io.cx.model_registry.proxy.client;
+
+import io.cx.model_registry.proxy.exceptions.RestClientException;
+import io.cx.model_registry.proxy.exceptions.RestClientNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestClientExceptionMapperTest {
+
+    @Test
+    void newException_shouldSkipStackTraceForExpectedNotFound() {
+        RestClientException exception = RestClientExceptionMapper.newException(404, "not found", true);
+
+        assertThat(exception).isInstanceOf(RestClientNotFoundException.class);
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void newException_shouldKeepStackTraceForNotFoundOutsideExpectedStatuses() {
+        RestClientException exception = RestClientExceptionMapper.newException(404, "not found", false);
+
+        assertThat(exception).isInstanceOf(RestClientNotFoundException.class);
+        assertThat(exception.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void newException_shouldFollowExpectedStatusesForOtherStatuses() {
+        assertThat(RestClientExceptionMapper.newException(409, "conflict", true).getStackTrace()).isEmpty();
+        assertThat(RestClientExceptionMapper.newException(500, "error", false).getStackTrace()).isNotEmpty();
+    }
+}
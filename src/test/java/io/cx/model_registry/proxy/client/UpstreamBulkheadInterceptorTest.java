@@ -0,0 +1,44 @@
+package io.cx.model_registry.proxy.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpstreamBulkheadInterceptorTest {
+
+    @Test
+    void classify_shouldRouteSingleItemListProbesToRead() throws NoSuchMethodException {
+        Method models = ModelClient.class.getMethod("getRegisteredModels",
+                String.class, Integer.class, String.class, String.class, String.class);
+        Method artifacts = ArtifactClient.class.getMethod("getArtifacts",
+                String.class, String.class, Integer.class, String.class, String.class, String.class);
+
+        assertThat(UpstreamBulkheadInterceptor.classify(BulkheadType.BULK, models,
+                new Object[]{"id = 1", 1, "ID", "ASC", null})).isEqualTo(BulkheadType.READ);
+        assertThat(UpstreamBulkheadInterceptor.classify(BulkheadType.BULK, artifacts,
+                new Object[]{"id = 1", null, 1, "ID", "ASC", null})).isEqualTo(BulkheadType.READ);
+    }
+
+    @Test
+    void classify_shouldKeepBulkForPages() throws NoSuchMethodException {
+        Method models = ModelClient.class.getMethod("getRegisteredModels",
+                String.class, Integer.class, String.class, String.class, String.class);
+
+        assertThat(UpstreamBulkheadInterceptor.classify(BulkheadType.BULK, models,
+                new Object[]{null, 100, "ID", "ASC", null})).isEqualTo(BulkheadType.BULK);
+        assertThat(UpstreamBulkheadInterceptor.classify(BulkheadType.BULK, models,
+                new Object[]{null, null, "ID", "ASC", null})).isEqualTo(BulkheadType.BULK);
+    }
+
+    @Test
+    void classify_shouldKeepDeclaredTypeForOtherCalls() throws NoSuchMethodException {
+        Method get = ModelClient.class.getMethod("getRegisteredModel", String.class);
+
+        assertThat(UpstreamBulkheadInterceptor.classify(BulkheadType.READ, get, new Object[]{"1"}))
+                .isEqualTo(BulkheadType.READ);
+        assertThat(UpstreamBulkheadInterceptor.classify(BulkheadType.WRITE, get, new Object[]{"1"}))
+                .isEqualTo(BulkheadType.WRITE);
+    }
+}
@@ -0,0 +1,38 @@
+package io.cx.model_registry.proxy.mappers;
+
+import io.quarkus.funqy.knative.events.CloudEvent;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CloudEventBinaryDecoderTest {
+
+    @Test
+    void event_shouldKeepAttributesAndExtensionsForDeserializer() {
+        Map<String, String> attributes = Map.of(
+                "id", "event-1",
+                "specversion", "1.0",
+                "source", "/tests",
+                "type", "model.get",
+                "subject", "model-1",
+                "userId", "user-42",
+                "queryId", "query-7"
+        );
+        JsonObject data = new JsonObject().put("id", "1");
+
+        CloudEvent<JsonObject> event = CloudEventBinaryDecoder.event(attributes, "application/json", data);
+
+        assertThat(event.id()).isEqualTo("event-1");
+        assertThat(event.type()).isEqualTo("model.get");
+        assertThat(event.subject()).isEqualTo("model-1");
+        assertThat(event.dataContentType()).isEqualTo("application/json");
+        assertThat(event.extensions())
+                .containsEntry("userId", "user-42")
+                .containsEntry("queryId", "query-7")
+                .doesNotContainKeys("id", "type", "subject");
+        assertThat(event.data()).isEqualTo(data);
+    }
+}
@@ -0,0 +1,22 @@
+package io.cx.model_registry.proxy.mappers.deserializers;
+
+import io.cx.platform.events.serde.CloudEventDeserializer;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeserializerCatalogTest {
+
+    @Test
+    void everyPermittedCommand_shouldHaveDeserializer() {
+        assertThat(DeserializerCatalog.all()).isNotEmpty();
+        DeserializerCatalog.all().forEach((root, resolution) -> {
+            assertThat(resolution.missing())
+                    .as("commands of %s without deserializer", root.getSimpleName())
+                    .isEmpty();
+            assertThat(resolution.constructors()).hasSize(root.getPermittedSubclasses().length);
+            assertThat(resolution.constructors())
+                    .allMatch(constructor -> CloudEventDeserializer.class.isAssignableFrom(constructor.getDeclaringClass()));
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package io.cx.model_registry.proxy.mappers.deserializers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DispatchIndexTest {
+
+    private record Event(String type, String subject) {
+    }
+
+    private record Handler(String type, String subjectPrefix) {
+        boolean supports(Event event) {
+            return type.equals(event.type()) && (subjectPrefix == null || event.subject().startsWith(subjectPrefix));
+        }
+    }
+
+    @Test
+    void resolve_shouldStayFlatUnderMillionsOfDistinctSubjects() {
+        List<Handler> handlers = List.of(
+                new Handler("model.command", "create-"),
+                new Handler("model.command", "get-"),
+                new Handler("model.command", "list-")
+        );
+        DispatchIndex<Handler, Event> index = index(handlers, Handler::supports, 16, 1_000);
+
+        for (int i = 0; i < 2_000_000; i++) {
+            Event event = new Event("model.command", "get-" + i);
+            assertThat(index.resolve(event.type(), event)).isSameAs(handlers.get(1));
+        }
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.keys()).isLessThanOrEqualTo(1_000);
+    }
+
+    @Test
+    void resolve_shouldNotCheckCandidatesOnHit() {
+        AtomicLong checks = new AtomicLong();
+        List<Handler> handlers = List.of(
+                new Handler("model.command", "create"),
+                new Handler("model.command", "get"),
+                new Handler("model.command", "list")
+        );
+        DispatchIndex<Handler, Event> index = index(handlers, (handler, event) -> {
+            checks.incrementAndGet();
+            return handler.supports(event);
+        }, 16, 1_000);
+
+        int events = 1_000_000;
+        for (int i = 0; i < events; i++) {
+            Event event = new Event("model.command", i % 2 == 0 ? "get" : "list");
+            assertThat(index.resolve(event.type(), event)).isSameAs(handlers.get(i % 2 == 0 ? 1 : 2));
+        }
+
+        // Кандидаты перебираются только при первом событии каждого subject.
+        assertThat(checks.get()).isEqualTo(2 + 3);
+    }
+
+    @Test
+    void resolve_shouldBoundNumberOfIndexedTypes() {
+        DispatchIndex<Handler, Event> index = index(List.of(new Handler("any", null)), (handler, event) -> true, 8, 16);
+
+        for (int i = 0; i < 100_000; i++) {
+            index.resolve("type-" + i, new Event("type-" + i, "s"));
+        }
+
+        assertThat(index.size()).isEqualTo(8);
+    }
+
+    @Test
+    void resolve_shouldPrepareTablesForKnownTypesAtStartup() {
+        DispatchIndex<Handler, Event> index = new DispatchIndex<>(List.of(new Handler("known", null)),
+                Handler::supports, Event::subject, List.of("known", "other"), 16, 16);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.keys()).isZero();
+    }
+
+    @Test
+    void resolve_shouldChooseBySubjectWithinOneType() {
+        Handler models = new Handler("get", "model-");
+        Handler versions = new Handler("get", "version-");
+        DispatchIndex<Handler, Event> index = index(List.of(models, versions), Handler::supports, 16, 16);
+
+        assertThat(index.resolve("get", new Event("get", "model-1"))).isSameAs(models);
+        assertThat(index.resolve("get", new Event("get", "version-1"))).isSameAs(versions);
+        assertThat(index.resolve("get", new Event("get", "model-1"))).isSameAs(models);
+        assertThat(index.resolve("get", new Event("get", "other"))).isNull();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void resolve_shouldNotDependOnArrivalOrder() {
+        Handler specific = new Handler("get", "x-");
+        Handler any = new Handler("get", null);
+        DispatchIndex<Handler, Event> index = index(List.of(specific, any), Handler::supports, 16, 16);
+
+        assertThat(index.resolve("get", new Event("get", "y-1"))).isSameAs(any);
+        assertThat(index.resolve("get", new Event("get", "x-1"))).isSameAs(specific);
+        assertThat(index.resolve("get", new Event("get", "y-1"))).isSameAs(any);
+        assertThat(index.resolve("get", new Event("get", "x-1"))).isSameAs(specific);
+    }
+
+    @Test
+    void resolve_shouldNotIndexUnknownTypes() {
+        DispatchIndex<Handler, Event> index = index(List.of(new Handler("known", null)), Handler::supports, 16, 16);
+
+        assertThat(index.resolve("unknown", new Event("unknown", "s"))).isNull();
+        assertThat(index.size()).isZero();
+    }
+
+    private static DispatchIndex<Handler, Event> index(
+            List<Handler> handlers,
+            BiPredicate<Handler, Event> supports,
+            int maxTypes,
+            long maxSubjects
+    ) {
+        return new DispatchIndex<>(handlers, supports, Event::subject, List.of(), maxTypes, maxSubjects);
+    }
+}
@@ -0,0 +1,58 @@
+package io.cx.model_registry.proxy.service.batch;
+
+import io.cx.model_registry.proxy.dto.batch.BatchGetResult;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchGetExecutorTest {
+
+    @Test
+    void getAll_shouldKeepRequestOrderAndCollectPerIdErrors() {
+        BatchGetExecutor executor = executor(4);
+        AtomicInteger calls = new AtomicInteger();
+
+        BatchGetResult<String> result = executor.getAll(List.of("3", "1", "missing", "1", "2"), id -> {
+                    calls.incrementAndGet();
+                    if ("missing".equals(id)) {
+                        return Uni.createFrom().failure(new NotFoundException("not found"));
+                    }
+                    return Uni.createFrom().item("model-" + id)
+                            .onItem().delayIt().by(Duration.ofMillis(10L * Integer.parseInt(id)));
+                })
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(result.items()).containsExactly("model-3", "model-1", "model-2");
+        assertThat(result.errors()).containsOnlyKeys("missing");
+        assertThat(result.errors().get("missing").status()).isEqualTo(404);
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void getAll_shouldBoundConcurrency() {
+        BatchGetExecutor executor = executor(2);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+
+        executor.getAll(List.of("1", "2", "3", "4", "5", "6"), id -> Uni.createFrom().item(id)
+                        .invoke(() -> maxActive.accumulateAndGet(active.incrementAndGet(), Math::max))
+                        .onItem().delayIt().by(Duration.ofMillis(20))
+                        .eventually(active::decrementAndGet))
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(maxActive.get()).isLessThanOrEqualTo(2);
+    }
+
+    private static BatchGetExecutor executor(int concurrency) {
+        BatchGetExecutor executor = new BatchGetExecutor();
+        executor.concurrency = concurrency;
+        executor.maxIds = 100;
+        return executor;
+    }
+}
@@ -0,0 +1,109 @@
+package io.cx.model_registry.proxy.service.cache;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityCacheTest {
+
+    @Test
+    void getOrLoad_shouldServeRepeatedReadsFromMemory() {
+        EntityCache<String> cache = new EntityCache<>("test", true, 10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            String value = cache.getOrLoad("1", () -> Uni.createFrom().item(() -> "model-" + loads.incrementAndGet()))
+                    .await().indefinitely();
+            assertThat(value).isEqualTo("model-1");
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.nativeCache().stats().hitCount()).isEqualTo(2);
+        assertThat(cache.nativeCache().stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void put_shouldRefreshEntryAndInvalidateShouldForceReload() {
+        EntityCache<String> cache = new EntityCache<>("test", true, 10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.put("1", "updated");
+        assertThat(cache.getOrLoad("1", () -> Uni.createFrom().item("loaded")).await().indefinitely())
+                .isEqualTo("updated");
+
+        cache.invalidate("1");
+        String value = cache.getOrLoad("1", () -> Uni.createFrom().item(() -> "loaded-" + loads.incrementAndGet()))
+                .await().indefinitely();
+        assertThat(value).isEqualTo("loaded-1");
+    }
+
+    @Test
+    void getOrLoad_shouldBypassCacheWhenDisabled() {
+        EntityCache<String> cache = new EntityCache<>("test", false, 10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad("1", () -> Uni.createFrom().item(() -> "v" + loads.incrementAndGet())).await().indefinitely();
+        cache.getOrLoad("1", () -> Uni.createFrom().item(() -> "v" + loads.incrementAndGet())).await().indefinitely();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getOrLoad_shouldReuseStaleEntryWhenRevalidationReportsNoChanges() {
+        EntityCache<String> cache = new EntityCache<>("test", true, 10, Duration.ofMinutes(1), Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger checks = new AtomicInteger();
+
+        cache.put("1", "cached");
+        String unchanged = cache.getOrLoad("1", () -> Uni.createFrom().item(() -> "loaded-" + loads.incrementAndGet()),
+                (id, cached) -> {
+                    checks.incrementAndGet();
+                    return Uni.createFrom().item(false);
+                }).await().indefinitely();
+        String changed = cache.getOrLoad("1", () -> Uni.createFrom().item(() -> "loaded-" + loads.incrementAndGet()),
+                (id, cached) -> Uni.createFrom().item(true)).await().indefinitely();
+
+        assertThat(unchanged).isEqualTo("cached");
+        assertThat(changed).isEqualTo("loaded-1");
+        assertThat(checks).hasValue(1);
+        assertThat(cache.revalidatedUnchanged()).isEqualTo(1);
+        assertThat(cache.revalidatedModified()).isEqualTo(1);
+    }
+
+    @Test
+    void getOrLoad_shouldNotExtendTtlOnUnchangedRevalidation() {
+        AtomicLong now = new AtomicLong();
+        EntityCache<String> cache = new EntityCache<>("test", true, 10,
+                Duration.ofMinutes(5), Duration.ofSeconds(10), now::get);
+        cache.put("1", "cached");
+
+        now.set(Duration.ofMinutes(4).toNanos());
+        String revalidated = cache.getOrLoad("1", () -> Uni.createFrom().item("loaded"),
+                (id, cached) -> Uni.createFrom().item(false)).await().indefinitely();
+        assertThat(revalidated).isEqualTo("cached");
+
+        now.set(Duration.ofMinutes(6).toNanos());
+        assertThatThrownBy(() -> cache.getOrLoad("1", () -> Uni.createFrom().failure(new NotFoundException()),
+                (id, cached) -> Uni.createFrom().item(false)).await().indefinitely())
+                .isInstanceOf(NotFoundException.class);
+        assertThat(cache.nativeCache().getIfPresent("1")).isNull();
+    }
+
+    @Test
+    void getOrLoad_shouldDropEntryWhenReloadFails() {
+        EntityCache<String> cache = new EntityCache<>("test", true, 10, Duration.ofMinutes(1), Duration.ZERO);
+        cache.put("1", "cached");
+
+        assertThatThrownBy(() -> cache.getOrLoad("1", () -> Uni.createFrom().failure(new NotFoundException()),
+                (id, cached) -> Uni.createFrom().item(true)).await().indefinitely())
+                .isInstanceOf(NotFoundException.class);
+        assertThat(cache.nativeCache().getIfPresent("1")).isNull();
+    }
+}
@@ -0,0 +1,68 @@
+package io.cx.model_registry.proxy.service.cache;
+
+import io.cx.model_registry.proxy.exceptions.RestClientException;
+import io.cx.model_registry.proxy.exceptions.RestClientNotFoundException;
+import io.cx.model_registry.proxy.service.cache.NegativeLookupCache.LookupKey;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class NegativeLookupCacheTest {
+
+    private static final LookupKey KEY = new LookupKey("model_versions", "v1", null, "7");
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final NegativeLookupCache cache = new NegativeLookupCache(true, 100, Duration.ofSeconds(5), nanos::get);
+
+    @Test
+    void lookup_shouldServeRepeatedMissWithFreshException() {
+        Throwable first = lookup(KEY);
+        Throwable second = lookup(KEY);
+        Throwable third = lookup(KEY);
+
+        assertThat(calls).hasValue(1);
+        assertThat(second).isInstanceOf(RestClientNotFoundException.class).isNotSameAs(third);
+        assertThat(((RestClientException) second).status()).isEqualTo(404);
+        assertThat(((RestClientException) second).url()).isEqualTo(((RestClientException) first).url());
+    }
+
+    @Test
+    void lookup_shouldCallAgainAfterTtl() {
+        lookup(KEY);
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+        lookup(KEY);
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void evict_shouldDropOnlyMatchingEntries() {
+        LookupKey other = new LookupKey("model_versions", "v2", null, "7");
+        LookupKey byExternalId = new LookupKey("model_versions", null, "ext-1", null);
+        lookup(KEY);
+        lookup(other);
+        lookup(byExternalId);
+
+        cache.evict("model_versions", "v1", "ext-1", "7");
+        lookup(KEY);
+        lookup(other);
+        lookup(byExternalId);
+
+        assertThat(calls).hasValue(5);
+        assertThat(cache.indexedKeys()).isEqualTo(3);
+    }
+
+    private Throwable lookup(LookupKey key) {
+        return catchThrowable(() -> cache.lookup(key, () -> Uni.createFrom().<String>failure(() -> {
+            calls.incrementAndGet();
+            return new RestClientNotFoundException("not found").status(404).url("/model_versions");
+        })).await().indefinitely());
+    }
+}
@@ -0,0 +1,69 @@
+package io.cx.model_registry.proxy.service.cache;
+
+import io.cx.model_registry.proxy.dto.models.RegisteredModel;
+import io.cx.model_registry.proxy.dto.models.RegisteredModelList;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegistryEntityCachesTest {
+
+    @Test
+    void listKey_shouldMatchEquivalentQueries() {
+        String first = RegistryEntityCaches.listKey("name = 'a'  AND state = 'LIVE'", 100, "ID", "asc", null);
+        String second = RegistryEntityCaches.listKey(" name = 'a' AND\tstate = 'LIVE' ", 100, "id", "ASC", "");
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void listKey_shouldKeepWhitespaceInsideLiterals() {
+        assertThat(RegistryEntityCaches.listKey("name = 'a  b'", 100, null, null, null))
+                .isNotEqualTo(RegistryEntityCaches.listKey("name = 'a b'", 100, null, null, null));
+        assertThat(RegistryEntityCaches.listKey("name = \"a\tb\"", 100, null, null, null))
+                .isNotEqualTo(RegistryEntityCaches.listKey("name = \"a b\"", 100, null, null, null));
+        assertThat(RegistryEntityCaches.listKey("name  =  'it\\'s  x'", 100, null, null, null))
+                .isEqualTo(RegistryEntityCaches.listKey("name = 'it\\'s  x'", 100, null, null, null));
+    }
+
+    @Test
+    void listKey_shouldDistinguishPages() {
+        assertThat(RegistryEntityCaches.listKey(null, 100, null, null, null))
+                .isNotEqualTo(RegistryEntityCaches.listKey(null, 100, null, null, "token-2"))
+                .isNotEqualTo(RegistryEntityCaches.listKey(null, 50, null, null, null));
+    }
+
+    @Test
+    void revalidationFilter_shouldSelectOnlyNewerVersionOfEntity() {
+        assertThat(RegistryEntityCaches.revalidationFilter("42", model(1000L)))
+                .isEqualTo("id = 42 AND lastUpdateTimeSinceEpoch > 1000");
+    }
+
+    @Test
+    void revalidationFilter_shouldRejectNonNumericIdsAndMissingTimestamp() {
+        assertThat(RegistryEntityCaches.revalidationFilter("4' OR '1'='1", model(1000L))).isNull();
+        assertThat(RegistryEntityCaches.revalidationFilter("", model(1000L))).isNull();
+        assertThat(RegistryEntityCaches.revalidationFilter("42", model(null))).isNull();
+    }
+
+    @Test
+    void isModified_shouldTreatEmptyProbeAsUnchanged() {
+        assertThat(RegistryEntityCaches.isModified(list())).isFalse();
+        assertThat(RegistryEntityCaches.isModified(null)).isFalse();
+        assertThat(RegistryEntityCaches.isModified(list(model(2000L)))).isTrue();
+    }
+
+    private static RegisteredModel model(Long lastUpdate) {
+        RegisteredModel model = new RegisteredModel();
+        model.lastUpdateTimeSinceEpoch(lastUpdate);
+        return model;
+    }
+
+    private static RegisteredModelList list(RegisteredModel... models) {
+        RegisteredModelList list = new RegisteredModelList();
+        list.items(List.of(models));
+        return list;
+    }
+}
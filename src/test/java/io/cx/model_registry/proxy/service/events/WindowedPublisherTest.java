@@ -0,0 +1,94 @@
+package io.cx.model_registry.proxy.service.events;
+
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WindowedPublisherTest {
+
+    private final List<CompletableFuture<Void>> sends = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Test
+    void publishAll_shouldKeepAtMostWindowSendsInFlight() {
+        WindowedPublisher publisher = publisher(3);
+
+        CompletableFuture<Void> result = publisher.publishAll(items(10), this::send).subscribeAsCompletionStage();
+
+        assertThat(sends).hasSize(3);
+        while (!result.isDone()) {
+            sends.stream().filter(send -> !send.isDone()).findFirst().orElseThrow().complete(null);
+        }
+
+        assertThat(sends).hasSize(10);
+        assertThat(maxInFlight).hasValue(3);
+        assertThat(result).isCompleted();
+    }
+
+    @Test
+    void publishAll_shouldPublishSequentiallyWithWindowOfOne() {
+        WindowedPublisher publisher = publisher(1);
+        List<Integer> order = new ArrayList<>();
+
+        CompletableFuture<Void> result = publisher.publishAll(items(5), item -> {
+            order.add(item);
+            return send(item);
+        }).subscribeAsCompletionStage();
+
+        while (!result.isDone()) {
+            assertThat(inFlight).hasValue(1);
+            sends.get(sends.size() - 1).complete(null);
+        }
+
+        assertThat(order).containsExactly(0, 1, 2, 3, 4);
+        assertThat(maxInFlight).hasValue(1);
+    }
+
+    @Test
+    void publishAll_shouldPropagateFailure() {
+        WindowedPublisher publisher = publisher(4);
+
+        CompletableFuture<Void> result = publisher.publishAll(items(6), this::send).subscribeAsCompletionStage();
+        sends.get(0).complete(null);
+        sends.get(1).completeExceptionally(new IllegalStateException("broker unavailable"));
+
+        assertThat(result).isCompletedExceptionally();
+        assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("broker unavailable");
+    }
+
+    @Test
+    void publishAll_shouldCompleteForEmptyList() {
+        assertThat(publisher(3).publishAll(List.<Integer>of(), this::send).await().indefinitely()).isNull();
+        assertThat(sends).isEmpty();
+    }
+
+    private Uni<Void> send(Integer item) {
+        CompletableFuture<Void> send = new CompletableFuture<>();
+        sends.add(send);
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return Uni.createFrom().completionStage(send)
+                .onItemOrFailure().invoke((ignored, failure) -> inFlight.decrementAndGet());
+    }
+
+    private static WindowedPublisher publisher(int window) {
+        WindowedPublisher publisher = new WindowedPublisher();
+        publisher.window = window;
+        return publisher;
+    }
+
+    private static List<Integer> items(int count) {
+        return IntStream.range(0, count).boxed().toList();
+    }
+}
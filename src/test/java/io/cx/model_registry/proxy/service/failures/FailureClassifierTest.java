@@ -0,0 +1,36 @@
+package io.cx.model_registry.proxy.service.failures;
+
+import io.cx.model_registry.proxy.exceptions.BulkheadRejectedException;
+import io.cx.model_registry.proxy.exceptions.RestClientException;
+import jakarta.ws.rs.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FailureClassifierTest {
+
+    @Test
+    void classify_shouldTreatServerErrorsAndTimeoutsAsTransient() {
+        assertThat(FailureClassifier.classify(new RestClientException("boom").status(503)))
+                .isEqualTo(FailureKind.TRANSIENT);
+        assertThat(FailureClassifier.classify(new RestClientException("slow down").status(429)))
+                .isEqualTo(FailureKind.TRANSIENT);
+        assertThat(FailureClassifier.classify(new CompletionException(new TimeoutException())))
+                .isEqualTo(FailureKind.TRANSIENT);
+        assertThat(FailureClassifier.classify(new BulkheadRejectedException("write")))
+                .isEqualTo(FailureKind.TRANSIENT);
+    }
+
+    @Test
+    void classify_shouldTreatClientErrorsAsPermanent() {
+        assertThat(FailureClassifier.classify(new RestClientException("conflict").status(409)))
+                .isEqualTo(FailureKind.PERMANENT);
+        assertThat(FailureClassifier.classify(new BadRequestException()))
+                .isEqualTo(FailureKind.PERMANENT);
+        assertThat(FailureClassifier.classify(new IllegalArgumentException("id must be provided")))
+                .isEqualTo(FailureKind.PERMANENT);
+    }
+}
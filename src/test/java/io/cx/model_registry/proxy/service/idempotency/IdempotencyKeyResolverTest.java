@@ -0,0 +1,105 @@
+package io.cx.model_registry.proxy.service.idempotency;
+
+import io.cx.model_registry.proxy.dto.models.RegisteredModelCreate;
+import io.cx.model_registry.proxy.dto.versions.ModelVersionCreate;
+import io.cx.model_registry.proxy.dto.workflows.ModelWithVersionCreateRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyKeyResolverTest {
+
+    @Test
+    void resolve_shouldKeepLegacyFormatForV1() {
+        IdempotencyKeyResolver.ResolvedKey key = resolver(IdempotencyKeyResolver.Scheme.V1)
+                .resolve(request("My Model", "v1.0/final")).await().indefinitely();
+
+        assertThat(key.key()).isEqualTo("modelwithversioncreaterequest:my_model:v1_0_final");
+        assertThat(key.canonical()).isEqualTo(key.key());
+    }
+
+    @Test
+    void resolve_shouldHashCanonicalKeyToFixedWidthForV2() {
+        IdempotencyKeyResolver resolver = resolver(IdempotencyKeyResolver.Scheme.V2);
+
+        IdempotencyKeyResolver.ResolvedKey shortKey = resolver.resolve(request("a", "1")).await().indefinitely();
+        IdempotencyKeyResolver.ResolvedKey longKey = resolver.resolve(request("a".repeat(200), "1")).await().indefinitely();
+
+        assertThat(shortKey.key()).startsWith("v2:").hasSize(IdempotencyKeyResolver.V2_KEY_LENGTH);
+        assertThat(longKey.key()).hasSize(IdempotencyKeyResolver.V2_KEY_LENGTH).isNotEqualTo(shortKey.key());
+        assertThat(shortKey.canonical()).isEqualTo("modelwithversioncreaterequest:a:1");
+    }
+
+    @Test
+    void toKey_shouldOfferV1KeyAsFallbackOnlyForV2() {
+        IdempotencyKeyResolver v2 = resolver(IdempotencyKeyResolver.Scheme.V2);
+        v2.v1Fallback = true;
+        IdempotencyKeyResolver v2WithoutFallback = resolver(IdempotencyKeyResolver.Scheme.V2);
+        IdempotencyKeyResolver v1 = resolver(IdempotencyKeyResolver.Scheme.V1);
+        v1.v1Fallback = true;
+
+        assertThat(v2.toKey("a:1").fallbackKey()).isEqualTo("a:1");
+        assertThat(v2WithoutFallback.toKey("a:1").fallbackKey()).isNull();
+        assertThat(v1.toKey("a:1").fallbackKey()).isNull();
+    }
+
+    @Test
+    void resolve_shouldNormalizeEquivalentNamesToSameKey() {
+        IdempotencyKeyResolver resolver = resolver(IdempotencyKeyResolver.Scheme.V2);
+
+        assertThat(resolver.resolve(request("My-Model", "V1")).await().indefinitely().key())
+                .isEqualTo(resolver.resolve(request("my model", "v1")).await().indefinitely().key());
+    }
+
+    @Test
+    void canonical_shouldMatchLegacyRegexAlgorithm() {
+        ModelWithVersionCreateRequest value = new ModelWithVersionCreateRequest();
+        List<String[]> cases = List.of(
+                new String[]{"My Model", "v1.0/final"},
+                new String[]{"MiXeD-Case_42", "na"},
+                new String[]{"Ünïcode Модель", "версия 1"},
+                new String[]{"emoji \uD83D\uDE00 model", "\uD83D\uDC4D"},
+                new String[]{"a:b", "", "c"},
+                new String[]{"", ""},
+                new String[]{"tab\tnew\nline", "  "}
+        );
+
+        for (String[] parts : cases) {
+            assertThat(IdempotencyKeyResolver.canonical(value, parts))
+                    .as("parts %s", List.of(parts))
+                    .isEqualTo(legacy(value, parts));
+        }
+        assertThat(IdempotencyKeyResolver.canonical(value, "\uD83D\uDE00"))
+                .isEqualTo("modelwithversioncreaterequest:_");
+    }
+
+    /**
+     * Алгоритм ключа до появления схем: {@code replaceAll} по каждой части и нижний регистр.
+     */
+    private static String legacy(Object value, String... parts) {
+        String joined = Stream.of(parts)
+                .filter(part -> !part.isEmpty())
+                .map(part -> part.replaceAll(IdempotencyKeyResolver.NON_ALPHANUMERIC_CHARS,
+                        IdempotencyKeyResolver.DOWN_DASH))
+                .collect(Collectors.joining(IdempotencyKeyResolver.DELIMITER));
+        return Stream.of(value.getClass().getSimpleName(), joined)
+                .map(String::toLowerCase)
+                .collect(Collectors.joining(IdempotencyKeyResolver.DELIMITER));
+    }
+
+    private static IdempotencyKeyResolver resolver(IdempotencyKeyResolver.Scheme scheme) {
+        IdempotencyKeyResolver resolver = new IdempotencyKeyResolver();
+        resolver.scheme = scheme;
+        return resolver;
+    }
+
+    private static ModelWithVersionCreateRequest request(String model, String version) {
+        return new ModelWithVersionCreateRequest()
+                .model((RegisteredModelCreate) new RegisteredModelCreate().name(model))
+                .version((ModelVersionCreate) new ModelVersionCreate().name(version));
+    }
+}
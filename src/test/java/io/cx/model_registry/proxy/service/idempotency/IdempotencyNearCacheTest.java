@@ -0,0 +1,48 @@
+package io.cx.model_registry.proxy.service.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyNearCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void putIfTerminal_shouldKeepOnlyCompletedEntries() {
+        IdempotencyNearCache cache = new IdempotencyNearCache(100, Duration.ofHours(1), CLOCK);
+
+        cache.putIfTerminal(IdempotencyEntry.inProgress("a", "op", "owner", NOW.plusSeconds(30), NOW));
+        cache.putIfTerminal(IdempotencyEntry.succeeded("b", "op", "{}", NOW));
+        cache.putIfTerminal(IdempotencyEntry.failed("c", "op", "boom", NOW));
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isNotNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    @Test
+    void putIfTerminal_shouldSkipEntriesPastRemoteTtl() {
+        IdempotencyNearCache cache = new IdempotencyNearCache(100, Duration.ofHours(1), CLOCK);
+
+        cache.putIfTerminal(IdempotencyEntry.succeeded("a", "op", "{}", NOW.minus(Duration.ofHours(2))));
+
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void changed_shouldDropLocalCopy() {
+        IdempotencyNearCache cache = new IdempotencyNearCache(100, Duration.ofHours(1), CLOCK);
+        cache.putIfTerminal(IdempotencyEntry.succeeded("a", "op", "{}", NOW));
+
+        cache.changed("a");
+
+        assertThat(cache.get("a")).isNull();
+    }
+}
@@ -0,0 +1,92 @@
+package io.cx.model_registry.proxy.service.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyWaitersTest {
+
+    @Test
+    void changed_shouldReleaseAllWaitersOfKey() {
+        IdempotencyWaiters waiters = new IdempotencyWaiters();
+        IdempotencyWaiters.Waiter first = waiters.waiter("a");
+        IdempotencyWaiters.Waiter second = waiters.waiter("a");
+        IdempotencyWaiters.Waiter other = waiters.waiter("b");
+
+        waiters.changed("a");
+
+        assertThat(first.signalled()).isTrue();
+        assertThat(second.signalled()).isTrue();
+        assertThat(other.signalled()).isFalse();
+        assertThat(waiters.waitingKeys()).isEqualTo(1);
+    }
+
+    @Test
+    void await_shouldCompleteOnTimeoutWithoutEventAndDropSignal() {
+        IdempotencyWaiters waiters = new IdempotencyWaiters();
+
+        waiters.waiter("a").await(Duration.ofMillis(20))
+                .await().atMost(Duration.ofSeconds(1));
+
+        assertThat(waiters.waitingKeys()).isZero();
+    }
+
+    @Test
+    void release_shouldKeepSignalWhileOthersWait() {
+        IdempotencyWaiters waiters = new IdempotencyWaiters();
+        IdempotencyWaiters.Waiter first = waiters.waiter("a");
+        IdempotencyWaiters.Waiter second = waiters.waiter("a");
+
+        first.release();
+        first.release();
+        assertThat(waiters.waitingKeys()).isEqualTo(1);
+
+        waiters.changed("a");
+        assertThat(second.signalled()).isTrue();
+        second.release();
+        assertThat(waiters.waitingKeys()).isZero();
+    }
+
+    @Test
+    void release_shouldNotTouchNewerSignalOfSameKey() {
+        IdempotencyWaiters waiters = new IdempotencyWaiters();
+        IdempotencyWaiters.Waiter stale = waiters.waiter("a");
+        waiters.changed("a");
+        IdempotencyWaiters.Waiter current = waiters.waiter("a");
+
+        stale.release();
+
+        assertThat(waiters.waitingKeys()).isEqualTo(1);
+        current.release();
+        assertThat(waiters.waitingKeys()).isZero();
+    }
+
+    @Test
+    void unavailable_shouldStopCreatingSignals() {
+        IdempotencyWaiters waiters = new IdempotencyWaiters();
+        IdempotencyWaiters.Waiter pending = waiters.waiter("a");
+
+        waiters.unavailable();
+        IdempotencyWaiters.Waiter later = waiters.waiter("b");
+
+        assertThat(pending.signalled()).isTrue();
+        assertThat(later.signalled()).isFalse();
+        assertThat(waiters.waitingKeys()).isZero();
+        later.await(Duration.ofMillis(20)).await().atMost(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void leaseExpired_shouldFallBackToUpdateTimeForEntriesWithoutLease() {
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        IdempotencyEntry live = IdempotencyEntry.inProgress("a", "op", "owner", now.plusSeconds(5), now);
+        IdempotencyEntry legacy = new IdempotencyEntry("a", "op", WorkflowExecutionState.IN_PROGRESS, null, null,
+                now.minusSeconds(60).toEpochMilli(), null, null, 1, null, 0L, null);
+
+        assertThat(live.leaseExpired(now, Duration.ofSeconds(30))).isFalse();
+        assertThat(live.leaseExpired(now.plusSeconds(5), Duration.ofSeconds(30))).isTrue();
+        assertThat(legacy.leaseExpired(now, Duration.ofSeconds(30))).isTrue();
+    }
+}
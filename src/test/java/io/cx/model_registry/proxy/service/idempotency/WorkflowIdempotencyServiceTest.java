@@ -0,0 +1,176 @@
+package io.cx.model_registry.proxy.service.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cx.model_registry.proxy.service.idempotency.store.InMemoryIdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkflowIdempotencyServiceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(100, Clock.systemUTC());
+    private final WorkflowIdempotencyService service = new WorkflowIdempotencyService();
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        service.objectMapper = new ObjectMapper();
+        service.meterRegistry = registry;
+        service.idempotencyEnabled = true;
+        service.entryTtl = TTL;
+        service.nearCacheEnabled = false;
+        service.compressionThreshold = 4096;
+        service.leaseDuration = Duration.ofSeconds(30);
+        service.heartbeatInterval = Duration.ofSeconds(10);
+        service.waitTimeout = Duration.ofSeconds(5);
+        service.pollInterval = Duration.ofMillis(200);
+    }
+
+    @Test
+    void duplicate_shouldWaitForOwnerAndReplayResult() throws Exception {
+        service.init(store);
+        CompletableFuture<String> owner = new CompletableFuture<>();
+
+        CompletableFuture<String> first = execute("k", () -> owner);
+        CompletableFuture<String> duplicate = execute("k", () -> CompletableFuture.completedFuture("duplicate"));
+
+        assertThat(duplicate).isNotDone();
+        owner.complete("result");
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void expiredLease_shouldBeTakenOverExactlyOnce() throws Exception {
+        service.init(store);
+        Instant past = Instant.now().minusSeconds(60);
+        store.put("k", IdempotencyEntry.inProgress("k", "op", "dead-owner", past.plusSeconds(1), past), TTL)
+                .await().indefinitely();
+        CompletableFuture<String> taker = new CompletableFuture<>();
+
+        CompletableFuture<String> first = execute("k", () -> taker);
+        CompletableFuture<String> second = execute("k", () -> CompletableFuture.completedFuture("second"));
+
+        assertThat(second).isNotDone();
+        assertThat(ownerOf("k")).isNotEqualTo("dead-owner");
+        taker.complete("taken-over");
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("taken-over");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("taken-over");
+        assertThat(runs).hasValue(1);
+        assertThat(registry.get("registry.idempotency.lease.takeovers").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void heartbeat_shouldKeepLeaseOfRunningOwner() throws Exception {
+        service.leaseDuration = Duration.ofMillis(300);
+        service.heartbeatInterval = Duration.ofMillis(50);
+        service.init(store);
+        CompletableFuture<String> owner = new CompletableFuture<>();
+
+        CompletableFuture<String> first = execute("k", () -> owner);
+        String ownerId = ownerOf("k");
+        Thread.sleep(1000);
+
+        IdempotencyEntry entry = store.get("k").await().indefinitely();
+        assertThat(entry.ownerId()).isEqualTo(ownerId);
+        assertThat(entry.leaseExpired(Instant.now(), service.leaseDuration)).isFalse();
+
+        CompletableFuture<String> duplicate = execute("k", () -> CompletableFuture.completedFuture("duplicate"));
+        assertThat(duplicate).isNotDone();
+        owner.complete("result");
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(runs).hasValue(1);
+        assertThat(registry.get("registry.idempotency.lease.takeovers").counter().count()).isZero();
+    }
+
+    @Test
+    void staleOwner_shouldNotOverwriteEntryOfNewOwner() throws Exception {
+        service.leaseDuration = Duration.ofMillis(100);
+        service.heartbeatInterval = Duration.ofHours(1);
+        service.init(store);
+        CompletableFuture<String> stale = new CompletableFuture<>();
+        CompletableFuture<String> fresh = new CompletableFuture<>();
+
+        CompletableFuture<String> first = execute("k", () -> stale);
+        Thread.sleep(200);
+        service.leaseDuration = Duration.ofSeconds(30);
+        CompletableFuture<String> second = execute("k", () -> fresh);
+        String newOwner = ownerOf("k");
+
+        stale.complete("stale");
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("stale");
+        IdempotencyEntry afterStale = store.get("k").await().indefinitely();
+        assertThat(afterStale.state()).isEqualTo(WorkflowExecutionState.IN_PROGRESS);
+        assertThat(afterStale.ownerId()).isEqualTo(newOwner);
+
+        fresh.complete("fresh");
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("fresh");
+        assertThat(execute("k", () -> CompletableFuture.completedFuture("replay")).get(1, TimeUnit.SECONDS))
+                .isEqualTo("fresh");
+        assertThat(runs).hasValue(2);
+        assertThat(registry.get("registry.idempotency.lease.lost").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void v2Key_shouldReplayEntryWrittenUnderV1KeyAndWriteNewEntriesUnderV2() throws Exception {
+        service.init(store);
+        IdempotencyKeyResolver resolver = new IdempotencyKeyResolver();
+        resolver.scheme = IdempotencyKeyResolver.Scheme.V2;
+        resolver.v1Fallback = true;
+        String legacy = "modelwithversioncreaterequest:a:1";
+        store.put(legacy, IdempotencyEntry.succeeded(legacy, "op",
+                        new WorkflowResultCodec(new ObjectMapper(), 4096).encode("before-deploy"), Instant.now()), TTL)
+                .await().indefinitely();
+
+        IdempotencyKeyResolver.ResolvedKey migrated = resolver.toKey(legacy);
+        IdempotencyKeyResolver.ResolvedKey fresh = resolver.toKey("modelwithversioncreaterequest:b:1");
+
+        assertThat(execute(migrated, () -> CompletableFuture.completedFuture("after-deploy")).get(1, TimeUnit.SECONDS))
+                .isEqualTo("before-deploy");
+        assertThat(runs).hasValue(0);
+        assertThat(store.get(migrated.key()).await().indefinitely()).isNull();
+
+        assertThat(execute(fresh, () -> CompletableFuture.completedFuture("new")).get(1, TimeUnit.SECONDS))
+                .isEqualTo("new");
+        assertThat(store.get(fresh.key()).await().indefinitely().state()).isEqualTo(WorkflowExecutionState.SUCCEEDED);
+        assertThat(store.get(fresh.canonical()).await().indefinitely()).isNull();
+    }
+
+    private CompletableFuture<String> execute(String key, Supplier<CompletableFuture<String>> action) {
+        return execute(new IdempotencyKeyResolver.ResolvedKey(key, null, null), action);
+    }
+
+    private CompletableFuture<String> execute(
+            IdempotencyKeyResolver.ResolvedKey key,
+            Supplier<CompletableFuture<String>> action
+    ) {
+        return service.execute("op", key, String.class, () -> {
+                    runs.incrementAndGet();
+                    return Uni.createFrom().completionStage(action.get());
+                })
+                .subscribeAsCompletionStage();
+    }
+
+    private String ownerOf(String key) {
+        return store.get(key).await().indefinitely().ownerId();
+    }
+}
@@ -0,0 +1,54 @@
+package io.cx.model_registry.proxy.service.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cx.model_registry.proxy.dto.models.RegisteredModel;
+import io.cx.model_registry.proxy.dto.workflows.ModelWithVersionCreateResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkflowResultCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void encode_shouldRoundTripWithoutCompressionBelowThreshold() throws IOException {
+        WorkflowResultCodec codec = new WorkflowResultCodec(objectMapper, 4096);
+
+        IdempotencyEntry entry = succeeded(codec.encode(result("model-a")));
+
+        assertThat(entry.responseEncoding()).isEqualTo(ResultEncoding.CBOR);
+        assertThat(codec.decode(entry, ModelWithVersionCreateResult.class).model().name()).isEqualTo("model-a");
+    }
+
+    @Test
+    void encode_shouldCompressAboveThreshold() throws IOException {
+        WorkflowResultCodec codec = new WorkflowResultCodec(objectMapper, 16);
+
+        IdempotencyEntry entry = succeeded(codec.encode(result("model-" + "x".repeat(256))));
+
+        assertThat(entry.responseEncoding()).isEqualTo(ResultEncoding.CBOR_GZIP);
+        assertThat(entry.response().length).isLessThan(256);
+        assertThat(codec.decode(entry, ModelWithVersionCreateResult.class).model().name()).startsWith("model-x");
+    }
+
+    @Test
+    void decode_shouldReadLegacyJsonEntries() throws IOException {
+        WorkflowResultCodec codec = new WorkflowResultCodec(objectMapper, 4096);
+        IdempotencyEntry legacy = new IdempotencyEntry("k", "op", WorkflowExecutionState.SUCCEEDED,
+                "{\"model\":{\"name\":\"legacy\"}}", null, 0L, null, null, 0, null, 0L, null);
+
+        assertThat(codec.decode(legacy, ModelWithVersionCreateResult.class).model().name()).isEqualTo("legacy");
+    }
+
+    private static IdempotencyEntry succeeded(WorkflowResultCodec.Encoded encoded) {
+        return IdempotencyEntry.succeeded("k", "op", encoded, Instant.now());
+    }
+
+    private static ModelWithVersionCreateResult result(String name) {
+        return new ModelWithVersionCreateResult().model((RegisteredModel) new RegisteredModel().name(name));
+    }
+}
@@ -0,0 +1,109 @@
+package io.cx.model_registry.proxy.service.idempotency.store;
+
+import io.cx.model_registry.proxy.service.idempotency.IdempotencyEntry;
+import io.cx.model_registry.proxy.service.idempotency.ResultEncoding;
+import io.cx.model_registry.proxy.service.idempotency.WorkflowResultCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileIdempotencyStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final Duration TTL = Duration.ofHours(1);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void open_shouldRestoreEntriesAndVersionsAfterRestart() {
+        Path log = dir.resolve("idempotency.log");
+        FileIdempotencyStore store = new FileIdempotencyStore(log, 4096, false, CLOCK);
+        store.putIfAbsent("a", inProgress("a"), TTL).await().indefinitely();
+        store.put("b", succeeded("b"), TTL).await().indefinitely();
+        long version = store.getVersioned("a").await().indefinitely().version();
+        store.close();
+
+        FileIdempotencyStore reopened = new FileIdempotencyStore(log, 4096, false, CLOCK);
+
+        assertThat(reopened.get("b").await().indefinitely().response()).containsExactly(1, 2, 3);
+        assertThat(reopened.replace("a", succeeded("a"), version, TTL).await().indefinitely()).isTrue();
+        assertThat(reopened.replace("a", succeeded("a"), version, TTL).await().indefinitely()).isFalse();
+        reopened.close();
+    }
+
+    @Test
+    void append_shouldCompactWhenLogIsFull() {
+        Path log = dir.resolve("idempotency.log");
+        FileIdempotencyStore store = new FileIdempotencyStore(log, 1024, false, CLOCK);
+        for (int i = 0; i < 200; i++) {
+            store.put("a", succeeded("a"), TTL).await().indefinitely();
+        }
+        store.put("b", succeeded("b"), TTL).await().indefinitely();
+        store.close();
+
+        FileIdempotencyStore reopened = new FileIdempotencyStore(log, 1024, false, CLOCK);
+
+        assertThat(reopened.position()).isLessThan(1024);
+        assertThat(reopened.get("a").await().indefinitely()).isNotNull();
+        assertThat(reopened.get("b").await().indefinitely()).isNotNull();
+        reopened.close();
+    }
+
+    @Test
+    void append_shouldKeepMemoryAndLogConsistentWhenCompactionFails() throws IOException {
+        Path log = dir.resolve("idempotency.log");
+        Files.createDirectory(dir.resolve("idempotency.log.compact"));
+        FileIdempotencyStore store = new FileIdempotencyStore(log, 1024, false, CLOCK);
+
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 200; i++) {
+                store.put("a", succeeded("a"), TTL).await().indefinitely();
+            }
+        }).isInstanceOf(UncheckedIOException.class);
+        long lastVersion = store.getVersioned("a").await().indefinitely().version();
+        store.put("b", succeeded("b"), TTL).onFailure().recoverWithNull().await().indefinitely();
+        assertThat(store.get("b").await().indefinitely()).isNull();
+        store.close();
+
+        FileIdempotencyStore reopened = new FileIdempotencyStore(log, 1024, false, CLOCK);
+        assertThat(reopened.getVersioned("a").await().indefinitely().version()).isEqualTo(lastVersion);
+        assertThat(reopened.get("b").await().indefinitely()).isNull();
+        reopened.close();
+    }
+
+    @Test
+    void open_shouldDropExpiredEntries() {
+        Path log = dir.resolve("idempotency.log");
+        FileIdempotencyStore store = new FileIdempotencyStore(log, 4096, false, CLOCK);
+        store.put("a", succeeded("a"), TTL).await().indefinitely();
+        store.close();
+
+        Clock later = Clock.offset(CLOCK, TTL.plusSeconds(1));
+        FileIdempotencyStore reopened = new FileIdempotencyStore(log, 4096, false, later);
+
+        assertThat(reopened.get("a").await().indefinitely()).isNull();
+        reopened.close();
+    }
+
+    private static IdempotencyEntry inProgress(String key) {
+        return IdempotencyEntry.inProgress(key, "op", "owner", NOW.plusSeconds(30), NOW);
+    }
+
+    private static IdempotencyEntry succeeded(String key) {
+        return IdempotencyEntry.succeeded(key, "op",
+                new WorkflowResultCodec.Encoded(ResultEncoding.CBOR, new byte[]{1, 2, 3}), NOW);
+    }
+}
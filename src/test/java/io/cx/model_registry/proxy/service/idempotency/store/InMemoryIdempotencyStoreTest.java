@@ -0,0 +1,67 @@
+package io.cx.model_registry.proxy.service.idempotency.store;
+
+import io.cx.model_registry.proxy.service.idempotency.IdempotencyEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIdempotencyStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Test
+    void putIfAbsent_shouldReturnExistingEntry() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThat(store.putIfAbsent("a", entry("first"), TTL).await().indefinitely()).isNull();
+        assertThat(store.putIfAbsent("a", entry("second"), TTL).await().indefinitely().ownerId()).isEqualTo("first");
+    }
+
+    @Test
+    void replace_shouldSucceedOnlyForCurrentVersionAndNotifyListeners() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10, Clock.fixed(NOW, ZoneOffset.UTC));
+        List<String> changed = new ArrayList<>();
+        store.addListener(new IdempotencyStore.Listener() {
+            @Override
+            public void changed(String key) {
+                changed.add(key);
+            }
+
+            @Override
+            public void reset() {
+            }
+        });
+        store.putIfAbsent("a", entry("first"), TTL).await().indefinitely();
+        long version = store.getVersioned("a").await().indefinitely().version();
+
+        assertThat(store.replace("a", entry("second"), version, TTL).await().indefinitely()).isTrue();
+        assertThat(store.replace("a", entry("third"), version, TTL).await().indefinitely()).isFalse();
+        assertThat(store.get("a").await().indefinitely().ownerId()).isEqualTo("second");
+        assertThat(changed).containsExactly("a", "a");
+    }
+
+    @Test
+    void get_shouldHideExpiredAndEvictEldestEntries() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(2, Clock.fixed(NOW, ZoneOffset.UTC));
+        store.put("a", entry("a"), Duration.ZERO).await().indefinitely();
+        store.put("b", entry("b"), TTL).await().indefinitely();
+        store.put("c", entry("c"), TTL).await().indefinitely();
+        store.put("d", entry("d"), TTL).await().indefinitely();
+
+        assertThat(store.get("a").await().indefinitely()).isNull();
+        assertThat(store.get("b").await().indefinitely()).isNull();
+        assertThat(store.get("d").await().indefinitely()).isNotNull();
+    }
+
+    private static IdempotencyEntry entry(String owner) {
+        return IdempotencyEntry.inProgress("a", "op", owner, NOW.plusSeconds(30), NOW);
+    }
+}
@@ -0,0 +1,107 @@
+package io.cx.model_registry.proxy.service.pagination;
+
+import io.cx.model_registry.proxy.dto.versions.ModelVersion;
+import io.cx.model_registry.proxy.dto.versions.ModelVersionList;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaginatorTest {
+
+    private static final Map<String, ModelVersionList> PAGES = Map.of(
+            "", page("p2", "1", "2"),
+            "p2", page("p3", "3", "4"),
+            "p3", page(null, "5")
+    );
+
+    @Test
+    void stream_shouldFollowNextPageTokenUntilLastPage() {
+        AtomicInteger fetches = new AtomicInteger();
+
+        List<String> ids = Paginator.<ModelVersion>stream(token -> fetch(token, fetches), 2)
+                .map(ModelVersion::id)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(ids).containsExactly("1", "2", "3", "4", "5");
+        assertThat(fetches).hasValue(3);
+    }
+
+    @Test
+    void stream_shouldStopWhenTokenRepeats() {
+        AtomicInteger fetches = new AtomicInteger();
+
+        List<ModelVersion> versions = Paginator.<ModelVersion>stream(token -> {
+                    fetches.incrementAndGet();
+                    return Uni.createFrom().item(page("same", "1"));
+                }, 1)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(versions).hasSize(2);
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void stream_shouldNotFetchBeyondBufferedPages() {
+        AtomicInteger fetches = new AtomicInteger();
+        PageFetcher<ModelVersion> hundredPages = token -> {
+            int page = fetches.incrementAndGet();
+            return Uni.createFrom().item(page(page < 100 ? "p" + page : null, page + "a", page + "b"));
+        };
+
+        AssertSubscriber<ModelVersion> subscriber = Paginator.stream(hundredPages, 2, Runnable::run)
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        assertThat(fetches).hasValue(2);
+
+        subscriber.request(4);
+        subscriber.awaitItems(4);
+        // Две страницы потреблены, одна может быть в обработке, ещё не больше двух в буфере.
+        assertThat(fetches).hasValueLessThanOrEqualTo(5);
+
+        subscriber.cancel();
+    }
+
+    @Test
+    void pages_shouldFetchNextPageOnlyOnDemand() {
+        AtomicInteger fetches = new AtomicInteger();
+
+        AssertSubscriber<ModelVersion> subscriber = Paginator.<ModelVersion>pages(token -> fetch(token, fetches))
+                .onItem().transformToIterable(items -> items)
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        subscriber.awaitItems(1);
+        assertThat(fetches).hasValue(1);
+
+        subscriber.request(2);
+        subscriber.awaitItems(3);
+        assertThat(fetches).hasValue(2);
+    }
+
+    private static Uni<ModelVersionList> fetch(String token, AtomicInteger fetches) {
+        fetches.incrementAndGet();
+        return Uni.createFrom().item(PAGES.get(token == null ? "" : token));
+    }
+
+    private static ModelVersionList page(String nextPageToken, String... ids) {
+        ModelVersionList list = new ModelVersionList();
+        list.items(Arrays.stream(ids).map(PaginatorTest::version).toList())
+                .nextPageToken(nextPageToken);
+        return list;
+    }
+
+    private static ModelVersion version(String id) {
+        ModelVersion version = new ModelVersion();
+        version.id(id);
+        return version;
+    }
+}
@@ -0,0 +1,43 @@
+package io.cx.model_registry.proxy.utils;
+
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncBulkheadTest {
+
+    @Test
+    void execute_shouldQueueUpToLimitAndRejectTheRest() {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(1, 1, () -> new IllegalStateException("rejected"));
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+
+        CompletableFuture<String> first = bulkhead.execute(() -> Uni.createFrom().completionStage(() -> {
+            started.incrementAndGet();
+            return upstream;
+        })).subscribeAsCompletionStage();
+        CompletableFuture<String> queued = bulkhead.execute(() -> Uni.createFrom().item(() -> {
+            started.incrementAndGet();
+            return "queued";
+        })).subscribeAsCompletionStage();
+        CompletableFuture<String> rejected = bulkhead.execute(() -> Uni.createFrom().item("rejected"))
+                .subscribeAsCompletionStage();
+
+        assertThat(started).hasValue(1);
+        assertThat(bulkhead.inFlight()).isEqualTo(1);
+        assertThat(bulkhead.queued()).isEqualTo(1);
+        assertThat(rejected).isCompletedExceptionally();
+
+        upstream.complete("first");
+
+        assertThat(first.join()).isEqualTo("first");
+        assertThat(queued.join()).isEqualTo("queued");
+        assertThat(started).hasValue(2);
+        assertThat(bulkhead.inFlight()).isZero();
+        assertThat(bulkhead.queued()).isZero();
+    }
+}
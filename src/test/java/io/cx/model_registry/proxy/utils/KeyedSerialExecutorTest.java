@@ -0,0 +1,61 @@
+package io.cx.model_registry.proxy.utils;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyedSerialExecutorTest {
+
+    private final KeyedSerialExecutor<String> executor =
+            new KeyedSerialExecutor<>(1, key -> new IllegalStateException("rejected " + key), nanos -> {
+            });
+
+    @Test
+    void execute_shouldSerializeSameKeyAndRunOtherKeysInParallel() {
+        List<String> started = new ArrayList<>();
+        CompletableFuture<String> firstA = new CompletableFuture<>();
+
+        UniAssertSubscriber<String> a1 = executor.execute("a", () -> {
+            started.add("a1");
+            return Uni.createFrom().completionStage(firstA);
+        }).subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<String> a2 = executor.execute("a", () -> {
+            started.add("a2");
+            return Uni.createFrom().item("a2");
+        }).subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<String> b1 = executor.execute("b", () -> {
+            started.add("b1");
+            return Uni.createFrom().item("b1");
+        }).subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        assertThat(started).containsExactly("a1", "b1");
+        assertThat(executor.queued()).isEqualTo(1);
+        b1.assertItem("b1");
+
+        firstA.complete("a1");
+
+        a1.assertItem("a1");
+        a2.assertItem("a2");
+        assertThat(started).containsExactly("a1", "b1", "a2");
+        assertThat(executor.activeKeys()).isZero();
+    }
+
+    @Test
+    void execute_shouldRejectWhenKeyQueueIsFull() {
+        CompletableFuture<String> blocker = new CompletableFuture<>();
+        executor.execute("a", () -> Uni.createFrom().completionStage(blocker)).subscribe().with(v -> {
+        });
+        executor.execute("a", () -> Uni.createFrom().item("queued")).subscribe().with(v -> {
+        });
+
+        executor.execute("a", () -> Uni.createFrom().item("rejected"))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "rejected a");
+    }
+}
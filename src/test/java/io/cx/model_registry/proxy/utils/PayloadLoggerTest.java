@@ -0,0 +1,43 @@
+package io.cx.model_registry.proxy.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayloadLoggerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void render_shouldProduceCompactJson() {
+        PayloadLogger logger = new PayloadLogger(LoggerFactory.getLogger(getClass()), objectMapper, 1024, 1);
+
+        assertThat(logger.render(new JsonObject().put("id", "1").put("name", "model")))
+                .isEqualTo("{\"id\":\"1\",\"name\":\"model\"}");
+    }
+
+    @Test
+    void render_shouldTruncateLargePayload() {
+        PayloadLogger logger = new PayloadLogger(LoggerFactory.getLogger(getClass()), objectMapper, 64, 1);
+        Map<String, String> large = Map.of("customProperties", "x".repeat(100_000));
+
+        String rendered = logger.render(large);
+
+        assertThat(rendered).hasSize(64 + PayloadLogger.TRUNCATED.length()).endsWith(PayloadLogger.TRUNCATED);
+    }
+
+    @Test
+    void sampled_shouldPassEveryNthMessage() {
+        PayloadLogger logger = new PayloadLogger(LoggerFactory.getLogger(getClass()), objectMapper, 64, 10);
+
+        long passed = IntStream.range(0, 100).filter(i -> logger.sampled()).count();
+
+        assertThat(passed).isEqualTo(10);
+    }
+}
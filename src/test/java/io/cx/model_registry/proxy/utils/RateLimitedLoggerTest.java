@@ -0,0 +1,40 @@
+package io.cx.model_registry.proxy.utils;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitedLoggerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final RateLimitedLogger logger = new RateLimitedLogger(
+            LoggerFactory.getLogger(RateLimitedLoggerTest.class), Duration.ofSeconds(10), 2, now::get);
+
+    @Test
+    void acquire_shouldAllowPermitsPerWindowAndDropTheRest() {
+        assertThat(logger.acquire()).isZero();
+        assertThat(logger.acquire()).isZero();
+        assertThat(logger.acquire()).isEqualTo(-1);
+        assertThat(logger.acquire()).isEqualTo(-1);
+    }
+
+    @Test
+    void acquire_shouldReportSuppressedCountInNextWindow() {
+        logger.acquire();
+        logger.acquire();
+        logger.acquire();
+        logger.acquire();
+
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(logger.acquire()).isEqualTo(-1);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(logger.acquire()).isEqualTo(3);
+        assertThat(logger.acquire()).isZero();
+        assertThat(logger.acquire()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,37 @@
+package io.cx.model_registry.proxy.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestClientExceptionUtilsTest {
+
+    @Test
+    void readBounded_shouldKeepBodyUpToLimit() throws IOException {
+        assertThat(RestClientExceptionUtils.readBounded(stream("12345"), 5)).isEqualTo("12345");
+        assertThat(RestClientExceptionUtils.readBounded(stream(""), 5)).isEmpty();
+    }
+
+    @Test
+    void readBounded_shouldTruncateBodyOverLimit() throws IOException {
+        assertThat(RestClientExceptionUtils.readBounded(stream("123456789"), 4))
+                .isEqualTo("1234...[truncated]");
+    }
+
+    @Test
+    void readBounded_shouldNotReadPastLimit() throws IOException {
+        ByteArrayInputStream stream = stream("x".repeat(10_000));
+
+        RestClientExceptionUtils.readBounded(stream, 4096);
+
+        assertThat(stream.available()).isEqualTo(10_000 - 4097);
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
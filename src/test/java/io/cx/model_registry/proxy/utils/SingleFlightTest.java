@@ -0,0 +1,56 @@
+package io.cx.model_registry.proxy.utils;
+
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    @Test
+    void execute_shouldShareInFlightCallAndReleaseKeyAfterCompletion() {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger coalesced = new AtomicInteger();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        Uni<String> first = singleFlight.execute("model-1",
+                () -> Uni.createFrom().completionStage(() -> {
+                    calls.incrementAndGet();
+                    return upstream;
+                }),
+                coalesced::incrementAndGet);
+        CompletableFuture<String> firstResult = first.subscribeAsCompletionStage();
+
+        Uni<String> second = singleFlight.execute("model-1",
+                () -> Uni.createFrom().item("unexpected"),
+                coalesced::incrementAndGet);
+        CompletableFuture<String> secondResult = second.subscribeAsCompletionStage();
+
+        upstream.complete("model");
+
+        assertThat(firstResult.join()).isEqualTo("model");
+        assertThat(secondResult.join()).isEqualTo("model");
+        assertThat(calls).hasValue(1);
+        assertThat(coalesced).hasValue(1);
+        assertThat(singleFlight.inFlight()).isZero();
+
+        String next = singleFlight.execute("model-1", () -> Uni.createFrom().item("fresh"), coalesced::incrementAndGet)
+                .await().indefinitely();
+        assertThat(next).isEqualTo("fresh");
+    }
+
+    @Test
+    void execute_shouldReleaseKeyAfterFailure() {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+
+        Uni<String> failed = singleFlight.execute("model-1",
+                () -> Uni.createFrom().failure(new IllegalStateException("boom")), () -> { });
+
+        assertThat(failed.subscribeAsCompletionStage()).isCompletedExceptionally();
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+}